@@ -0,0 +1,58 @@
+package com.colleful.server.block.service;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BlockListBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final long USERS = 1_000_000;
+
+    @Param({"0", "100", "5000"})
+    private int blocks;
+
+    private BlockList blockList;
+    private long[] teamIds;
+    private long[] leaderIds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Long> userIds = random.longs(blocks, 1, USERS).boxed().collect(Collectors.toList());
+        List<Long> blockedTeamIds = random.longs(blocks, 1, USERS).boxed()
+            .collect(Collectors.toList());
+        blockList = BlockList.of(userIds, blockedTeamIds);
+
+        teamIds = random.longs(PAGE_SIZE, 1, USERS).toArray();
+        leaderIds = random.longs(PAGE_SIZE, 1, USERS).toArray();
+    }
+
+    @Benchmark
+    public int filterPage() {
+        int visible = 0;
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (!blockList.hidesTeam(teamIds[i], leaderIds[i])) {
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+    @Benchmark
+    public boolean checkUser() {
+        return blockList.containsUser(leaderIds[0]);
+    }
+}
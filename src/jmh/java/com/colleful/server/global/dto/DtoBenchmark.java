@@ -0,0 +1,97 @@
+package com.colleful.server.global.dto;
+
+import com.colleful.server.department.domain.Department;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.dto.TeamDto;
+import com.colleful.server.user.domain.Gender;
+import com.colleful.server.user.domain.User;
+import com.colleful.server.user.dto.UserDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DtoBenchmark {
+
+    private User user;
+    private Team team;
+    private PageDto.Response<TeamDto.Response> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        Department department = Department.builder()
+            .id(1L)
+            .collegeName("공과대학")
+            .departmentName("컴퓨터공학부")
+            .build();
+
+        user = User.builder()
+            .id(1L)
+            .email("user@jbnu.ac.kr")
+            .nickname("nickname")
+            .birthYear(2000)
+            .gender(Gender.MALE)
+            .department(department)
+            .selfIntroduction("안녕하세요")
+            .teamId(1L)
+            .build();
+        team = createTeam(1L);
+
+        List<TeamDto.Response> teams = LongStream.rangeClosed(1, 10)
+            .mapToObj(id -> new TeamDto.Response(createTeam(id)))
+            .collect(Collectors.toList());
+        page = new PageDto.Response<>(new PageImpl<>(teams, PageRequest.of(0, 10), 1000));
+
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    @Benchmark
+    public UserDto.Response userResponse() {
+        return new UserDto.Response(user);
+    }
+
+    @Benchmark
+    public UserDto.Summary userSummary() {
+        return new UserDto.Summary(user);
+    }
+
+    @Benchmark
+    public TeamDto.Response teamResponse() {
+        return new TeamDto.Response(team);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private Team createTeam(Long id) {
+        return Team.builder()
+            .id(id)
+            .updatedAt(LocalDateTime.now())
+            .teamName("team" + id)
+            .gender(Gender.FEMALE)
+            .status(TeamStatus.READY)
+            .headcount(3)
+            .leaderId(id)
+            .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.colleful.server.global.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorPathBenchmark {
+
+    private static final String MESSAGE = "리더만 초대할 수 있습니다.";
+
+    @Param({"32", "128"})
+    private int depth;
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseMapper errorResponseMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        errorResponseMapper = new ErrorResponseMapper(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] stackTraceRejection() throws JsonProcessingException {
+        try {
+            reject(depth, () -> new IllegalStateException(MESSAGE));
+            return null;
+        } catch (IllegalStateException e) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("status", 403);
+            body.put("error", "Forbidden");
+            body.put("message", e.getMessage());
+            return objectMapper.writeValueAsBytes(body);
+        }
+    }
+
+    @Benchmark
+    public byte[] stacklessRejection() {
+        try {
+            reject(depth, () -> new ForbiddenBehaviorException(MESSAGE));
+            return null;
+        } catch (DomainException e) {
+            return errorResponseMapper.toBody(e.getErrorCode(), e.getMessage());
+        }
+    }
+
+    private static void reject(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+
+        reject(depth - 1, exception);
+    }
+}
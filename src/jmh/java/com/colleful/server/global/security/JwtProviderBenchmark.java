@@ -0,0 +1,47 @@
+package com.colleful.server.global.security;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtProviderBenchmark {
+
+    private static final List<String> ROLES = Collections.singletonList("ROLE_USER");
+
+    private JwtProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtProvider(null);
+        ReflectionTestUtils.setField(provider, "secretKey", "benchmark-secret");
+        provider.init();
+        token = JwtProperties.TYPE + " " + provider.createToken("user@jbnu.ac.kr", 1L, ROLES);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken("user@jbnu.ac.kr", 1L, ROLES);
+    }
+
+    @Benchmark
+    public Long getId() {
+        return provider.getId(token);
+    }
+
+    @Benchmark
+    public boolean isValidateToken() {
+        return provider.isValidateToken(token);
+    }
+}
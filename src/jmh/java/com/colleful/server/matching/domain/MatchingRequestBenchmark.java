@@ -0,0 +1,43 @@
+package com.colleful.server.matching.domain;
+
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.user.domain.Gender;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MatchingRequestBenchmark {
+
+    private Team sender;
+    private Team receiver;
+
+    @Setup
+    public void setUp() {
+        sender = Team.builder()
+            .id(1L)
+            .gender(Gender.MALE)
+            .status(TeamStatus.PENDING)
+            .leaderId(1L)
+            .build();
+        receiver = Team.builder()
+            .id(2L)
+            .gender(Gender.FEMALE)
+            .status(TeamStatus.READY)
+            .leaderId(2L)
+            .build();
+    }
+
+    @Benchmark
+    public MatchingRequest create() {
+        return new MatchingRequest(sender, receiver);
+    }
+}
@@ -0,0 +1,97 @@
+package com.colleful.server.matching.repository;
+
+import com.colleful.server.ServerApplication;
+import com.colleful.server.matching.domain.MatchingRequest;
+import com.colleful.server.team.domain.Team;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int RECEIVERS = 200;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private JdbcTemplate jdbcTemplate;
+    private Team sender;
+    private List<Team> receivers;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(ServerApplication.class,
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=jdbc:h2:mem:bulk;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.database=h2",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--monitoring.sql.sample-rate=0",
+            "--jwt.secret=benchmark");
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        for (long id = 1; id <= RECEIVERS + 1; id++) {
+            jdbcTemplate.update("insert into team (id, team_name, gender, status, headcount, "
+                + "leader_id) values (?, ?, ?, 'READY', 1, ?)",
+                id, "team" + id, id == 1 ? "MALE" : "FEMALE", id);
+        }
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        sender = entityManager.find(Team.class, 1L);
+        receivers = entityManager
+            .createQuery("select t from Team t where t.id > 1", Team.class)
+            .getResultList();
+        entityManager.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void clear() {
+        jdbcTemplate.update("delete from matching_request");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MatchingRequest> insertMatchingRequests() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        entityManager.getTransaction().begin();
+
+        List<MatchingRequest> matches = new ArrayList<>(RECEIVERS);
+        for (Team receiver : receivers) {
+            MatchingRequest match = new MatchingRequest(sender, receiver);
+            entityManager.persist(match);
+            matches.add(match);
+        }
+
+        entityManager.getTransaction().commit();
+        entityManager.close();
+        return matches;
+    }
+}
@@ -0,0 +1,55 @@
+package com.colleful.server.team.service;
+
+import com.colleful.server.user.domain.Gender;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecommendationBenchmark {
+
+    private static final String[] COLLEGES = {"공과대학", "인문대학", "자연과학대학", "사회과학대학",
+        "상과대학", "농업생명과학대학", "예술대학", "사범대학", "의과대학", "법과대학"};
+
+    @Param({"200000"})
+    private int teams;
+
+    private TeamFeatures candidates;
+    private TeamFeatures query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        TeamFeatures.Builder builder = TeamFeatures.builder();
+
+        for (long teamId = 1; teamId <= teams; teamId++) {
+            Gender gender = teamId % 2 == 0 ? Gender.FEMALE : Gender.MALE;
+            int headcount = 2 + random.nextInt(3);
+            for (int member = 0; member < headcount; member++) {
+                builder.add(teamId, gender, headcount, 1995 + random.nextInt(8),
+                    COLLEGES[random.nextInt(COLLEGES.length)]);
+            }
+        }
+
+        candidates = builder.build();
+        query = candidates.queryBuilder()
+            .add(0L, Gender.MALE, 3, 2000, COLLEGES[0])
+            .add(0L, Gender.MALE, 3, 2001, COLLEGES[1])
+            .add(0L, Gender.MALE, 3, 1999, COLLEGES[0])
+            .build();
+    }
+
+    @Benchmark
+    public long[] recommend() {
+        return candidates.rank(query, 10);
+    }
+}
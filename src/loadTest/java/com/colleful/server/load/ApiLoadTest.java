@@ -0,0 +1,232 @@
+package com.colleful.server.load;
+
+import static com.colleful.server.load.LoadTestProperties.CLIENTS;
+import static com.colleful.server.load.LoadTestProperties.DEPARTMENTS;
+import static com.colleful.server.load.LoadTestProperties.DURATION_SECONDS;
+import static com.colleful.server.load.LoadTestProperties.TEAMS;
+import static com.colleful.server.load.LoadTestProperties.USERS;
+import static com.colleful.server.load.LoadTestProperties.WARMUP_SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.colleful.server.global.security.JwtProperties;
+import com.colleful.server.global.security.JwtProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.datasource.hikari.maximum-pool-size=20",
+    "management.server.port=-1",
+    "monitoring.sql.sample-rate=0",
+    "jwt.secret=load-test",
+    "execution.virtual-threads=${loadtest.virtual-threads:false}"
+})
+public class ApiLoadTest {
+
+    private static final int TOKEN_COUNT = 1_000;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtProvider provider;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Value("${execution.virtual-threads}")
+    private boolean virtualThreads;
+
+    private final List<String> tokens = new ArrayList<>();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private int totalWeight;
+
+    @BeforeEach
+    public void setUp() {
+        if (jdbcTemplate.queryForObject("select count(*) from user", Long.class) == 0) {
+            long start = System.nanoTime();
+            new DataSeeder(jdbcTemplate, passwordEncoder.encode("password")).seed();
+            System.out.printf("seeded %d users, %d teams in %.1fs%n", USERS, TEAMS,
+                (System.nanoTime() - start) / 1e9);
+        }
+
+        for (long id = 1; id <= Math.min(TOKEN_COUNT, TEAMS); id++) {
+            tokens.add(JwtProperties.TYPE + " " + provider.createToken(DataSeeder.emailOf(id), id,
+                Collections.singletonList("ROLE_USER")));
+        }
+
+        endpoint("GET /api/teams", 40, random -> "/api/teams?page=" + random.nextInt(100));
+        endpoint("GET /api/teams/{id}", 20, random -> "/api/teams/" + readyTeam(random));
+        endpoint("GET /api/teams/team-name/{team-name}", 5,
+            random -> "/api/teams/team-name/" + DataSeeder.TEAM_NAME_PREFIX
+                + (1 + random.nextInt(TEAMS)));
+        endpoint("GET /api/teams/{id}/members", 10,
+            random -> "/api/teams/" + (1 + random.nextInt(TEAMS)) + "/members");
+        endpoint("GET /api/users/{id}", 10, random -> "/api/users/" + (1 + random.nextInt(USERS)));
+        endpoint("GET /api/matching/received", 5, random -> "/api/matching/received");
+        endpoint("GET /api/invitations/sent", 5, random -> "/api/invitations/sent");
+        endpoint("GET /api/departments/{id}", 5,
+            random -> "/api/departments/" + (1 + random.nextInt(DEPARTMENTS)));
+    }
+
+    @Test
+    public void 혼합_부하() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(CLIENTS))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        run(client, WARMUP_SECONDS);
+        Map<String, LatencyRecorder> results = run(client, DURATION_SECONDS);
+
+        Map<String, Object> report = report(results);
+        File file = new File("build/reports/load-test/results.json");
+        file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+
+        long requests = results.values().stream().mapToLong(LatencyRecorder::getCount).sum();
+        long errors = results.values().stream().mapToLong(LatencyRecorder::getErrors).sum();
+        assertThat(requests).isPositive();
+        assertThat((double) errors / requests).isLessThan(0.01);
+    }
+
+    private Map<String, LatencyRecorder> run(HttpClient client, int seconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(executor.submit(() -> drive(client, deadline)));
+        }
+
+        Map<String, LatencyRecorder> results = new TreeMap<>();
+        for (Future<Map<String, LatencyRecorder>> future : futures) {
+            future.get().forEach((name, recorder) ->
+                results.computeIfAbsent(name, key -> new LatencyRecorder()).merge(recorder));
+        }
+
+        executor.shutdown();
+        return results;
+    }
+
+    private Map<String, LatencyRecorder> drive(HttpClient client, long deadline)
+        throws IOException, InterruptedException {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = pick(random);
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + endpoint.path.apply(random)))
+                .header(JwtProperties.HEADER, tokens.get(random.nextInt(tokens.size())))
+                .GET()
+                .build();
+
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response =
+                client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorders.computeIfAbsent(endpoint.name, key -> new LatencyRecorder())
+                .record(System.nanoTime() - start, response.statusCode() < 400);
+        }
+
+        return recorders;
+    }
+
+    private Map<String, Object> report(Map<String, LatencyRecorder> results) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", USERS);
+        report.put("teams", TEAMS);
+        report.put("clients", CLIENTS);
+        report.put("virtualThreads", virtualThreads);
+        report.put("durationSeconds", DURATION_SECONDS);
+
+        Map<String, Object> endpointReports = new LinkedHashMap<>();
+        System.out.printf("%-40s %10s %10s %8s %8s %8s %8s%n",
+            "endpoint", "requests", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)");
+
+        results.forEach((name, recorder) -> {
+            Map<String, Object> endpointReport = new LinkedHashMap<>();
+            endpointReport.put("requests", recorder.getCount());
+            endpointReport.put("throughput", (double) recorder.getCount() / DURATION_SECONDS);
+            endpointReport.put("errors", recorder.getErrors());
+            endpointReport.put("p50Millis", recorder.percentileMillis(0.5));
+            endpointReport.put("p95Millis", recorder.percentileMillis(0.95));
+            endpointReport.put("p99Millis", recorder.percentileMillis(0.99));
+            endpointReports.put(name, endpointReport);
+
+            System.out.printf("%-40s %10d %10.1f %8d %8.2f %8.2f %8.2f%n", name,
+                recorder.getCount(), (double) recorder.getCount() / DURATION_SECONDS,
+                recorder.getErrors(), recorder.percentileMillis(0.5),
+                recorder.percentileMillis(0.95), recorder.percentileMillis(0.99));
+        });
+
+        report.put("endpoints", endpointReports);
+        return report;
+    }
+
+    private void endpoint(String name, int weight, Function<ThreadLocalRandom, String> path) {
+        endpoints.add(new Endpoint(name, weight, path));
+        totalWeight += weight;
+    }
+
+    private Endpoint pick(ThreadLocalRandom random) {
+        int value = random.nextInt(totalWeight);
+
+        for (Endpoint endpoint : endpoints) {
+            value -= endpoint.weight;
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private long readyTeam(ThreadLocalRandom random) {
+        long teamId = 1 + random.nextInt(TEAMS);
+        return teamId % 10 == 0 ? teamId - 1 : teamId;
+    }
+
+    private static class Endpoint {
+
+        private final String name;
+        private final int weight;
+        private final Function<ThreadLocalRandom, String> path;
+
+        private Endpoint(String name, int weight, Function<ThreadLocalRandom, String> path) {
+            this.name = name;
+            this.weight = weight;
+            this.path = path;
+        }
+    }
+}
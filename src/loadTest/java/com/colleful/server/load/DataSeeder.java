@@ -0,0 +1,137 @@
+package com.colleful.server.load;
+
+import static com.colleful.server.load.LoadTestProperties.BATCH_SIZE;
+import static com.colleful.server.load.LoadTestProperties.DEPARTMENTS;
+import static com.colleful.server.load.LoadTestProperties.MATCHING_REQUESTS;
+import static com.colleful.server.load.LoadTestProperties.TEAMS;
+import static com.colleful.server.load.LoadTestProperties.USERS;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class DataSeeder {
+
+    public static final String TEAM_NAME_PREFIX = "team";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String encodedPassword;
+    private final Random random = new Random(42);
+
+    public DataSeeder(JdbcTemplate jdbcTemplate, String encodedPassword) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.encodedPassword = encodedPassword;
+    }
+
+    public static String emailOf(long userId) {
+        return "user" + userId + "@jbnu.ac.kr";
+    }
+
+    public static String genderOf(long teamId) {
+        return teamId % 2 == 0 ? "FEMALE" : "MALE";
+    }
+
+    public static long teamOf(long userId) {
+        if (userId <= TEAMS) {
+            return userId;
+        }
+
+        return userId <= TEAMS * 4L ? (userId - 1) % TEAMS + 1 : 0;
+    }
+
+    public void seed() {
+        seedDepartments();
+        seedUsers();
+        seedTeams();
+        seedMatchingRequests();
+        advanceIdGenerators();
+    }
+
+    private void seedDepartments() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= DEPARTMENTS; id++) {
+            rows.add(new Object[]{id, "college" + (id % 10), "department" + id});
+        }
+        jdbcTemplate.batchUpdate(
+            "insert into department (id, college_name, department_name) values (?, ?, ?)", rows);
+    }
+
+    private void seedUsers() {
+        List<Object[]> users = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> roles = new ArrayList<>(BATCH_SIZE);
+
+        for (long id = 1; id <= USERS; id++) {
+            long teamId = teamOf(id);
+            String gender = teamId != 0 ? genderOf(teamId) : genderOf(id);
+            users.add(new Object[]{id, emailOf(id), encodedPassword, "nickname" + id,
+                1995 + random.nextInt(8), gender, id % DEPARTMENTS + 1, "안녕하세요",
+                teamId != 0 ? teamId : null});
+            roles.add(new Object[]{id, "ROLE_USER"});
+
+            if (users.size() == BATCH_SIZE || id == USERS) {
+                jdbcTemplate.batchUpdate("insert into user (id, email, password, nickname, "
+                    + "birth_year, gender, department_id, self_introduction, team_id) "
+                    + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", users);
+                jdbcTemplate.batchUpdate(
+                    "insert into user_roles (user_id, roles) values (?, ?)", roles);
+                users.clear();
+                roles.clear();
+            }
+        }
+    }
+
+    private void seedTeams() {
+        List<Object[]> teams = new ArrayList<>(BATCH_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        int headcount = Math.min(4, Math.max(1, USERS / TEAMS));
+
+        for (long id = 1; id <= TEAMS; id++) {
+            teams.add(new Object[]{id,
+                Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 30))),
+                TEAM_NAME_PREFIX + id, genderOf(id), id % 10 == 0 ? "PENDING" : "READY",
+                headcount, id});
+
+            if (teams.size() == BATCH_SIZE || id == TEAMS) {
+                jdbcTemplate.batchUpdate("insert into team (id, updated_at, team_name, gender, "
+                    + "status, headcount, leader_id) values (?, ?, ?, ?, ?, ?, ?)", teams);
+                teams.clear();
+            }
+        }
+    }
+
+    private void seedMatchingRequests() {
+        List<Object[]> requests = new ArrayList<>(BATCH_SIZE);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int perTeam = Math.min(MATCHING_REQUESTS / TEAMS, (TEAMS - 1) / 2);
+        long id = 1;
+
+        for (long sender = 1; sender <= TEAMS; sender++) {
+            for (int k = 1; k <= perTeam; k++) {
+                long receiver = (sender - 1 + 2L * k - 1) % TEAMS + 1;
+                requests.add(new Object[]{id++, now, sender, receiver});
+
+                if (requests.size() == BATCH_SIZE) {
+                    insertMatchingRequests(requests);
+                }
+            }
+        }
+
+        insertMatchingRequests(requests);
+    }
+
+    private void advanceIdGenerators() {
+        for (String table : new String[]{"user", "team", "matching_request"}) {
+            jdbcTemplate.update("update id_generator set next_val = "
+                + "(select coalesce(max(id), 0) + 1 from " + table + ") where name = ?", table);
+        }
+    }
+
+    private void insertMatchingRequests(List<Object[]> requests) {
+        jdbcTemplate.batchUpdate("insert into matching_request (id, created_at, sender_id, "
+            + "receiver_id) values (?, ?, ?, ?)", requests);
+        requests.clear();
+    }
+}
@@ -0,0 +1,49 @@
+package com.colleful.server.load;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    public void record(long nanos, boolean success) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+
+        latencies[size++] = nanos;
+
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.latencies[i], true);
+        }
+
+        errors += other.errors;
+    }
+
+    public int getCount() {
+        return size;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double percentileMillis(double quantile) {
+        if (size == 0) {
+            return 0;
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.min(size - 1, Math.ceil(size * quantile) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
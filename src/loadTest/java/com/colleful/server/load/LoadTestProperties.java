@@ -0,0 +1,14 @@
+package com.colleful.server.load;
+
+public class LoadTestProperties {
+
+    public static final int USERS = Integer.getInteger("loadtest.users", 20_000);
+    public static final int TEAMS = Integer.getInteger("loadtest.teams", 4_000);
+    public static final int MATCHING_REQUESTS =
+        Integer.getInteger("loadtest.matching-requests", 40_000);
+    public static final int DEPARTMENTS = Integer.getInteger("loadtest.departments", 100);
+    public static final int CLIENTS = Integer.getInteger("loadtest.clients", 64);
+    public static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    public static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    public static final int BATCH_SIZE = 5_000;
+}
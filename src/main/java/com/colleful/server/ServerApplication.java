@@ -3,7 +3,7 @@ package com.colleful.server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(proxyBeanMethods = false)
 public class ServerApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,50 @@
+package com.colleful.server.block.api;
+
+import com.colleful.server.block.service.BlockService;
+import com.colleful.server.global.security.JwtProperties;
+import com.colleful.server.global.security.JwtProvider;
+import com.colleful.server.user.dto.UserDto;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/blocks")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class BlockController {
+
+    private final BlockService blockService;
+    private final JwtProvider provider;
+
+    @GetMapping
+    public List<UserDto.Summary> getBlockedUsers(
+        @RequestHeader(JwtProperties.HEADER) String token) {
+        return blockService.getBlockedUsers(provider.getId(token)).stream()
+            .map(UserDto.Summary::new)
+            .collect(Collectors.toList());
+    }
+
+    @PostMapping("/{user-id}")
+    public ResponseEntity<?> block(@RequestHeader(JwtProperties.HEADER) String token,
+        @PathVariable("user-id") Long userId) {
+        blockService.block(userId, provider.getId(token));
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/{user-id}")
+    public ResponseEntity<?> unblock(@RequestHeader(JwtProperties.HEADER) String token,
+        @PathVariable("user-id") Long userId) {
+        blockService.unblock(userId, provider.getId(token));
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.colleful.server.block.domain;
+
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
+import javax.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Table(name = "user_block",
+    indexes = @Index(name = "idx_user_block_blocked_id", columnList = "blockedId"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_user_block_blocker_id_blocked_id",
+        columnNames = {"blockerId", "blockedId"}))
+@Getter
+@NoArgsConstructor
+public class Block {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_block_id")
+    @TableGenerator(name = "user_block_id", table = "id_generator", pkColumnName = "name",
+        valueColumnName = "next_val", pkColumnValue = "user_block", allocationSize = 50)
+    private Long id;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private Long blockerId;
+
+    @Column(nullable = false)
+    private Long blockedId;
+
+    public Block(Long blockerId, Long blockedId) {
+        if (blockerId.equals(blockedId)) {
+            throw new ForbiddenBehaviorException("자기 자신은 차단할 수 없습니다.");
+        }
+
+        this.blockerId = blockerId;
+        this.blockedId = blockedId;
+    }
+}
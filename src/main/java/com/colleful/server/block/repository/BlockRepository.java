@@ -0,0 +1,28 @@
+package com.colleful.server.block.repository;
+
+import com.colleful.server.block.domain.Block;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BlockRepository extends JpaRepository<Block, Long> {
+
+    boolean existsByBlockerIdAndBlockedId(Long blockerId, Long blockedId);
+
+    Optional<Block> findByBlockerIdAndBlockedId(Long blockerId, Long blockedId);
+
+    @Query("select b.blockedId from Block b where b.blockerId = :userId")
+    List<Long> findBlockedIds(@Param("userId") Long userId);
+
+    @Query("select b.blockerId from Block b where b.blockedId = :userId")
+    List<Long> findBlockerIds(@Param("userId") Long userId);
+
+    @Query("select distinct u.teamId from User u where u.teamId is not null and ("
+        + "u.id in (select b.blockedId from Block b where b.blockerId = :userId) or "
+        + "u.id in (select b.blockerId from Block b where b.blockedId = :userId))")
+    List<Long> findBlockedTeamIds(@Param("userId") Long userId);
+}
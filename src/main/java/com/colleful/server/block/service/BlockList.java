@@ -0,0 +1,45 @@
+package com.colleful.server.block.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public class BlockList {
+
+    public static final BlockList EMPTY = new BlockList(new long[0], new long[0]);
+
+    private final long[] userIds;
+    private final long[] teamIds;
+
+    private BlockList(long[] userIds, long[] teamIds) {
+        this.userIds = userIds;
+        this.teamIds = teamIds;
+    }
+
+    public static BlockList of(Collection<Long> userIds, Collection<Long> teamIds) {
+        if (userIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new BlockList(toSortedArray(userIds), toSortedArray(teamIds));
+    }
+
+    public boolean isEmpty() {
+        return userIds.length == 0;
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+
+    public boolean containsUser(long userId) {
+        return Arrays.binarySearch(userIds, userId) >= 0;
+    }
+
+    public boolean hidesTeam(long teamId, long leaderId) {
+        return Arrays.binarySearch(teamIds, teamId) >= 0 || containsUser(leaderId);
+    }
+
+    private static long[] toSortedArray(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+}
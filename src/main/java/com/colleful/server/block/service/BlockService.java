@@ -0,0 +1,13 @@
+package com.colleful.server.block.service;
+
+import com.colleful.server.user.domain.User;
+import java.util.List;
+
+public interface BlockService {
+
+    List<User> getBlockedUsers(Long userId);
+
+    void block(Long targetId, Long userId);
+
+    void unblock(Long targetId, Long userId);
+}
@@ -0,0 +1,48 @@
+package com.colleful.server.block.service;
+
+import com.colleful.server.block.domain.Block;
+import com.colleful.server.block.repository.BlockRepository;
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.NotFoundResourceException;
+import com.colleful.server.user.domain.User;
+import com.colleful.server.user.service.UserServiceForService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BlockServiceImpl implements BlockService {
+
+    private final BlockRepository blockRepository;
+    private final UserServiceForService userService;
+    private final BlockedUsers blockedUsers;
+
+    @Override
+    public List<User> getBlockedUsers(Long userId) {
+        return userService.getUsers(blockRepository.findBlockedIds(userId));
+    }
+
+    @Override
+    public void block(Long targetId, Long userId) {
+        User target = userService.getUser(targetId);
+
+        if (blockRepository.existsByBlockerIdAndBlockedId(userId, target.getId())) {
+            throw new ForbiddenBehaviorException("이미 차단한 유저입니다.");
+        }
+
+        blockRepository.save(new Block(userId, target.getId()));
+        blockedUsers.invalidate(userId, targetId);
+    }
+
+    @Override
+    public void unblock(Long targetId, Long userId) {
+        Block block = blockRepository.findByBlockerIdAndBlockedId(userId, targetId)
+            .orElseThrow(() -> new NotFoundResourceException("차단 정보가 없습니다."));
+
+        blockRepository.delete(block);
+        blockedUsers.invalidate(userId, targetId);
+    }
+}
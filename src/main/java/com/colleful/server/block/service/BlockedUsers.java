@@ -0,0 +1,67 @@
+package com.colleful.server.block.service;
+
+import com.colleful.server.block.repository.BlockRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class BlockedUsers {
+
+    private final BlockRepository blockRepository;
+    private final LoadingCache<Long, BlockList> blockLists;
+
+    public BlockedUsers(BlockRepository blockRepository,
+        @Value("${block.maximum-size:10000}") long maximumSize,
+        @Value("${block.expire-after-write:PT1M}") Duration expireAfterWrite) {
+        this.blockRepository = blockRepository;
+        this.blockLists = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .build(this::load);
+    }
+
+    public BlockList get(Long userId) {
+        return blockLists.get(userId);
+    }
+
+    public boolean isBlocked(Long userId, Long otherId) {
+        return get(userId).containsUser(otherId);
+    }
+
+    public boolean isBlockedTeam(Long userId, Long teamId, Long leaderId) {
+        return get(userId).hidesTeam(teamId, leaderId);
+    }
+
+    public void invalidate(Long userId, Long otherId) {
+        List<Long> userIds = List.of(userId, otherId);
+        blockLists.invalidateAll(userIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        blockLists.invalidateAll(userIds);
+                    }
+                });
+        }
+    }
+
+    private BlockList load(Long userId) {
+        List<Long> userIds = new ArrayList<>(blockRepository.findBlockedIds(userId));
+        userIds.addAll(blockRepository.findBlockerIds(userId));
+
+        if (userIds.isEmpty()) {
+            return BlockList.EMPTY;
+        }
+
+        return BlockList.of(userIds, blockRepository.findBlockedTeamIds(userId));
+    }
+}
@@ -0,0 +1,29 @@
+package com.colleful.server.department.api;
+
+import com.colleful.server.department.domain.Department;
+import com.colleful.server.department.repository.DepartmentReactiveRepository;
+import com.colleful.server.global.exception.NotFoundResourceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DepartmentReactiveHandler {
+
+    private final DepartmentReactiveRepository departmentRepository;
+
+    public Mono<ServerResponse> getAllDepartments(ServerRequest request) {
+        return ServerResponse.ok().body(departmentRepository.findAll(), Department.class);
+    }
+
+    public Mono<ServerResponse> getDepartment(ServerRequest request) {
+        return departmentRepository.findById(Long.valueOf(request.pathVariable("id")))
+            .switchIfEmpty(Mono.error(new NotFoundResourceException("학과 정보가 없습니다.")))
+            .flatMap(department -> ServerResponse.ok().bodyValue(department));
+    }
+}
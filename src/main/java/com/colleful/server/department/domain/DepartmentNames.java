@@ -0,0 +1,22 @@
+package com.colleful.server.department.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class DepartmentNames {
+
+    private static volatile Map<Long, String> names = Collections.emptyMap();
+
+    public static void load(Collection<Department> departments) {
+        names = departments.stream()
+            .collect(Collectors.toUnmodifiableMap(Department::getId,
+                Department::getDepartmentName));
+    }
+
+    public static String of(Long departmentId, Department department) {
+        String name = departmentId != null ? names.get(departmentId) : null;
+        return name != null ? name : department.getDepartmentName();
+    }
+}
@@ -0,0 +1,39 @@
+package com.colleful.server.department.repository;
+
+import com.colleful.server.department.domain.Department;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DepartmentReactiveRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Department> findAll() {
+        return databaseClient.execute("select * from department")
+            .map((row, metadata) -> toDepartment(row))
+            .all();
+    }
+
+    public Mono<Department> findById(Long id) {
+        return databaseClient.execute("select * from department where id = :id")
+            .bind("id", id)
+            .map((row, metadata) -> toDepartment(row))
+            .one();
+    }
+
+    private Department toDepartment(Row row) {
+        return Department.builder()
+            .id(row.get("id", Long.class))
+            .collegeName(row.get("college_name", String.class))
+            .departmentName(row.get("department_name", String.class))
+            .build();
+    }
+}
@@ -1,10 +1,15 @@
 package com.colleful.server.department.service;
 
 import com.colleful.server.department.domain.Department;
+import com.colleful.server.department.domain.DepartmentNames;
 import com.colleful.server.department.repository.DepartmentRepository;
+import com.colleful.server.global.cache.CacheNames;
 import com.colleful.server.global.exception.NotFoundResourceException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,6 +18,12 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDepartmentNames() {
+        DepartmentNames.load(departmentRepository.findAll());
+    }
+
+    @Cacheable(cacheNames = CacheNames.DEPARTMENTS, key = "'all'")
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
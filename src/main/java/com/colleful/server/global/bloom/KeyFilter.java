@@ -0,0 +1,86 @@
+package com.colleful.server.global.bloom;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class KeyFilter {
+
+    private static final long MIN_CAPACITY = 1024;
+
+    private final LongSupplier count;
+    private final Supplier<Stream<String>> source;
+    private final double fpp;
+    private final Timer rebuildTimer;
+    private final Counter checks;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    public KeyFilter(String name, LongSupplier count, Supplier<Stream<String>> source,
+        double fpp, MeterRegistry meterRegistry) {
+        this.count = count;
+        this.source = source;
+        this.fpp = fpp;
+        this.rebuildTimer = meterRegistry.timer("bloom.filter.rebuild", "name", name);
+        this.checks = meterRegistry.counter("bloom.filter.checks", "name", name);
+        this.falsePositives = meterRegistry.counter("bloom.filter.false.positives", "name", name);
+        Gauge.builder("bloom.filter.expected.fpp", this,
+            filter -> filter.current != null ? filter.current.expectedFpp() : 1.0)
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    public void rebuild() {
+        rebuildTimer.record(() -> {
+            long capacity = Math.max(count.getAsLong() * 2, MIN_CAPACITY);
+            BloomFilter filter = new BloomFilter(capacity, fpp);
+            try (Stream<String> keys = source.get()) {
+                keys.forEach(filter::put);
+            }
+            previous = current;
+            current = filter;
+        });
+    }
+
+    public boolean isTaken(String key, Predicate<String> database) {
+        checks.increment();
+
+        if (!mightContain(key)) {
+            return false;
+        }
+
+        boolean taken = database.test(key);
+
+        if (!taken) {
+            falsePositives.increment();
+        }
+
+        return taken;
+    }
+
+    public void add(String key) {
+        BloomFilter filter = current;
+
+        if (filter != null) {
+            filter.put(key);
+        }
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter filter = current;
+        BloomFilter older = previous;
+
+        if (filter == null) {
+            return true;
+        }
+
+        return filter.mightContain(key) || (older != null && older.mightContain(key));
+    }
+}
@@ -0,0 +1,64 @@
+package com.colleful.server.global.cache;
+
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.user.domain.User;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+public class CacheEvictionListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Object entity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(entity);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(entity);
+                }
+            });
+    }
+
+    private void evictNow(Object entity) {
+        CacheManager manager = cacheManager.getIfAvailable();
+
+        if (manager == null) {
+            return;
+        }
+
+        if (entity instanceof Team) {
+            evict(manager.getCache(CacheNames.TEAMS), ((Team) entity).getId());
+            clear(manager.getCache(CacheNames.READY_TEAMS));
+        } else if (entity instanceof User) {
+            evict(manager.getCache(CacheNames.USERS), ((User) entity).getId());
+        }
+    }
+
+    private void evict(Cache cache, Long id) {
+        if (cache != null && id != null) {
+            cache.evict(id);
+        }
+    }
+
+    private void clear(Cache cache) {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.colleful.server.global.cache;
+
+import java.io.Serializable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CacheInvalidation implements Serializable {
+
+    private final String nodeId;
+    private final String cacheName;
+    private final Object key;
+    private final long generation;
+
+    public boolean isClear() {
+        return this.key == null;
+    }
+}
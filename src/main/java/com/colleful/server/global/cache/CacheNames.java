@@ -0,0 +1,9 @@
+package com.colleful.server.global.cache;
+
+public class CacheNames {
+
+    public static final String TEAMS = "teams";
+    public static final String READY_TEAMS = "readyTeams";
+    public static final String USERS = "users";
+    public static final String DEPARTMENTS = "departments";
+}
@@ -0,0 +1,139 @@
+package com.colleful.server.global.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final BiConsumer<String, Object> invalidationPublisher;
+    private final LongSupplier nextGeneration;
+    private volatile long generation;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+        Cache remote, BiConsumer<String, Object> invalidationPublisher, long generation,
+        LongSupplier nextGeneration) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.generation = generation;
+        this.nextGeneration = nextGeneration;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = local.getIfPresent(key);
+
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        if (remote == null) {
+            return null;
+        }
+
+        ValueWrapper wrapper = remote.get(remoteKey(key));
+
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(key, wrapper.get());
+        }
+
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        return wrapper == null ? null : (T) wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        if (remote != null) {
+            remote.put(remoteKey(key), value);
+        }
+
+        local.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (remote != null) {
+            remote.evict(remoteKey(key));
+        }
+
+        local.invalidate(key);
+        invalidationPublisher.accept(name, key);
+    }
+
+    @Override
+    public void clear() {
+        if (remote != null) {
+            generation = nextGeneration.getAsLong();
+        }
+
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public void evictLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal(long generation) {
+        if (generation > this.generation) {
+            this.generation = generation;
+        }
+
+        local.invalidateAll();
+    }
+
+    private String remoteKey(Object key) {
+        return generation + ":" + key;
+    }
+}
@@ -0,0 +1,110 @@
+package com.colleful.server.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "colleful:cache-invalidation";
+    private static final String GENERATION_PREFIX = "colleful:cache-generation:";
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    private static final long LOCAL_MAXIMUM_SIZE = 10_000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+    private final Map<String, Duration> ttls;
+    private final CacheManager remote;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public TwoLevelCacheManager(Map<String, Duration> ttls, CacheManager remote,
+        RedisTemplate<String, Object> redisTemplate) {
+        this.ttls = ttls;
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation = (CacheInvalidation) serializer.deserialize(message.getBody());
+
+        if (invalidation == null || nodeId.equals(invalidation.getNodeId())) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(invalidation.getCacheName());
+
+        if (cache == null) {
+            return;
+        }
+
+        if (invalidation.isClear()) {
+            cache.clearLocal(invalidation.getGeneration());
+        } else {
+            cache.evictLocal(invalidation.getKey());
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        return new TwoLevelCache(name,
+            Caffeine.newBuilder()
+                .expireAfterWrite(ttls.getOrDefault(name, DEFAULT_TTL))
+                .maximumSize(LOCAL_MAXIMUM_SIZE)
+                .build(),
+            remote != null ? remote.getCache(name) : null,
+            this::publishInvalidation,
+            currentGeneration(name),
+            () -> nextGeneration(name));
+    }
+
+    private void publishInvalidation(String cacheName, Object key) {
+        if (redisTemplate != null) {
+            TwoLevelCache cache = caches.get(cacheName);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, new CacheInvalidation(nodeId,
+                cacheName, key, cache != null ? cache.getGeneration() : 0));
+        }
+    }
+
+    private long currentGeneration(String cacheName) {
+        if (redisTemplate == null) {
+            return 0;
+        }
+
+        byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+            connection.get(generationKey(cacheName)));
+        return value == null ? 0 : Long.parseLong(new String(value, StandardCharsets.UTF_8));
+    }
+
+    private long nextGeneration(String cacheName) {
+        Long generation = redisTemplate.execute((RedisCallback<Long>) connection ->
+            connection.incr(generationKey(cacheName)));
+        return generation == null ? 0 : generation;
+    }
+
+    private byte[] generationKey(String cacheName) {
+        return (GENERATION_PREFIX + cacheName).getBytes(StandardCharsets.UTF_8);
+    }
+}
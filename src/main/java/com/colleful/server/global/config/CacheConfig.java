@@ -0,0 +1,78 @@
+package com.colleful.server.global.config;
+
+import com.colleful.server.global.cache.CacheNames;
+import com.colleful.server.global.cache.TwoLevelCacheManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Configuration(proxyBeanMethods = false)
+@EnableCaching
+public class CacheConfig {
+
+    private static final Map<String, Duration> TTLS = Map.of(
+        CacheNames.TEAMS, Duration.ofMinutes(10),
+        CacheNames.READY_TEAMS, Duration.ofSeconds(30),
+        CacheNames.USERS, Duration.ofMinutes(10),
+        CacheNames.DEPARTMENTS, Duration.ofHours(1));
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+        @Value("${cache.remote.enabled:false}") boolean remoteEnabled,
+        RedisConnectionFactory connectionFactory) {
+        if (!remoteEnabled) {
+            return new TwoLevelCacheManager(TTLS, null, null);
+        }
+
+        return new TwoLevelCacheManager(TTLS, remoteCacheManager(connectionFactory),
+            invalidationTemplate(connectionFactory));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.remote.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        RedisConnectionFactory connectionFactory, TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager,
+            new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    private RedisCacheManager remoteCacheManager(RedisConnectionFactory connectionFactory) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+            .prefixCacheNameWith("colleful:")
+            .disableCachingNullValues();
+        RedisCacheManager manager = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(defaults)
+            .withInitialCacheConfigurations(TTLS.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                    entry -> defaults.entryTtl(entry.getValue()))))
+            .build();
+        manager.initializeCaches();
+        return manager;
+    }
+
+    private RedisTemplate<String, Object> invalidationTemplate(
+        RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new JdkSerializationRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+}
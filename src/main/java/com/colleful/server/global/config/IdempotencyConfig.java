@@ -0,0 +1,39 @@
+package com.colleful.server.global.config;
+
+import com.colleful.server.global.idempotency.IdempotencyStore;
+import com.colleful.server.global.idempotency.InMemoryIdempotencyStore;
+import com.colleful.server.global.idempotency.RedisIdempotencyStore;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Configuration(proxyBeanMethods = false)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.remote.enabled", havingValue = "false",
+        matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(
+        @Value("${idempotency.ttl:24h}") Duration ttl,
+        @Value("${idempotency.maximum-size:10000}") long maximumSize) {
+        return new InMemoryIdempotencyStore(ttl, maximumSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.remote.enabled", havingValue = "true")
+    public IdempotencyStore redisIdempotencyStore(RedisConnectionFactory connectionFactory,
+        @Value("${idempotency.ttl:24h}") Duration ttl) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new JdkSerializationRedisSerializer());
+        template.afterPropertiesSet();
+        return new RedisIdempotencyStore(template, ttl);
+    }
+}
@@ -0,0 +1,104 @@
+package com.colleful.server.global.config;
+
+import com.colleful.server.department.api.DepartmentReactiveHandler;
+import com.colleful.server.global.exception.DomainException;
+import com.colleful.server.global.exception.ErrorCode;
+import com.colleful.server.global.exception.ErrorResponseMapper;
+import com.colleful.server.global.security.JwtHandlerFilter;
+import com.colleful.server.team.api.TeamReactiveHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(@Value("${reactive.r2dbc.url}") String url,
+        @Value("${reactive.r2dbc.username}") String username,
+        @Value("${reactive.r2dbc.password}") String password,
+        @Value("${reactive.r2dbc.pool-size:10}") int poolSize) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions
+            .parse(url)
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build());
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+            .maxSize(poolSize)
+            .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveRoutes(TeamReactiveHandler teamHandler,
+        DepartmentReactiveHandler departmentHandler, JwtHandlerFilter jwtHandlerFilter,
+        ErrorResponseMapper errorResponseMapper) {
+        RouterFunction<ServerResponse> teamRoutes = RouterFunctions.route()
+            .GET("/api/teams", teamHandler::getAllReadyTeams)
+            .GET("/api/teams/team-name/{team-name}", teamHandler::searchTeams)
+            .GET("/api/teams/{id}", teamHandler::getTeamInfo)
+            .filter(jwtHandlerFilter)
+            .build();
+
+        return RouterFunctions.route()
+            .GET("/api/departments", departmentHandler::getAllDepartments)
+            .GET("/api/departments/{id}", departmentHandler::getDepartment)
+            .add(teamRoutes)
+            .onError(DomainException.class, (e, request) -> error(errorResponseMapper,
+                ((DomainException) e).getErrorCode(), e))
+            .onError(NumberFormatException.class, (e, request) -> error(errorResponseMapper,
+                ErrorCode.INVALID_REQUEST, e))
+            .build();
+    }
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer reactiveServer(RouterFunction<ServerResponse> reactiveRoutes,
+        ObjectMapper objectMapper, @Value("${reactive.port:8082}") int port) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+            .codecs(configurer -> {
+                configurer.defaultCodecs()
+                    .jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                configurer.defaultCodecs()
+                    .jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+            })
+            .build();
+
+        return HttpServer.create()
+            .port(port)
+            .handle(new ReactorHttpHandlerAdapter(
+                RouterFunctions.toHttpHandler(reactiveRoutes, strategies)))
+            .bindNow();
+    }
+
+    private Mono<ServerResponse> error(ErrorResponseMapper errorResponseMapper,
+        ErrorCode errorCode, Throwable e) {
+        return ServerResponse.status(errorCode.getStatus())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(errorResponseMapper.toBody(errorCode, e.getMessage()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.colleful.server.global.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import javax.servlet.Filter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter hotPathBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+            && (AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+            || AnnotatedElementUtils.hasAnnotation(beanType, Service.class)
+            || Filter.class.isAssignableFrom(beanType));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "startup.exit-after-start", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> startupTimeReporter(
+        @Value("${startup.report-file:}") String reportFile) {
+        return event -> {
+            long startupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            if (!reportFile.isEmpty()) {
+                try {
+                    Files.writeString(Paths.get(reportFile), String.valueOf(startupMillis));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.colleful.server.global.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+public class AvailabilityDto {
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Response {
+
+        private final boolean available;
+    }
+}
@@ -0,0 +1,34 @@
+package com.colleful.server.global.dto;
+
+import lombok.Getter;
+
+public class BatchDto {
+
+    public static final int MAX_SIZE = 50;
+
+    @Getter
+    public static class Response {
+
+        private final Long targetId;
+        private final Long id;
+        private final String error;
+
+        private Response(Long targetId, Long id, String error) {
+            this.targetId = targetId;
+            this.id = id;
+            this.error = error;
+        }
+
+        public static Response success(Long targetId, Long id) {
+            return new Response(targetId, id, null);
+        }
+
+        public static Response failure(Long targetId, String error) {
+            return new Response(targetId, null, error);
+        }
+
+        public boolean isSuccess() {
+            return this.error == null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.colleful.server.global.dto;
+
+import com.colleful.server.global.exception.ErrorCode;
+import lombok.Getter;
+
+public class ErrorDto {
+
+    @Getter
+    public static class Response {
+
+        private final Integer status;
+        private final String code;
+        private final String message;
+
+        public Response(ErrorCode errorCode, String message) {
+            this.status = errorCode.getStatus().value();
+            this.code = errorCode.name();
+            this.message = message;
+        }
+    }
+}
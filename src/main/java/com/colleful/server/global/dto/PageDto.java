@@ -1,5 +1,6 @@
 package com.colleful.server.global.dto;
 
+import java.io.Serializable;
 import java.util.List;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -7,7 +8,7 @@ import org.springframework.data.domain.Page;
 public class PageDto {
 
     @Getter
-    public static class Response<T> {
+    public static class Response<T> implements Serializable {
 
         private final List<T> content;
         private final Integer pageNumber;
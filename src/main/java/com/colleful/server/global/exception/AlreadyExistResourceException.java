@@ -1,12 +1,8 @@
 package com.colleful.server.global.exception;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
-
-@ResponseStatus(HttpStatus.CONFLICT)
-public class AlreadyExistResourceException extends RuntimeException {
+public class AlreadyExistResourceException extends DomainException {
 
     public AlreadyExistResourceException(String message) {
-        super(message);
+        super(ErrorCode.ALREADY_EXIST_RESOURCE, message);
     }
 }
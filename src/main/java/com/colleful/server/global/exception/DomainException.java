@@ -0,0 +1,14 @@
+package com.colleful.server.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public abstract class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    protected DomainException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+}
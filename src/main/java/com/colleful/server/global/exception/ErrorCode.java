@@ -0,0 +1,22 @@
+package com.colleful.server.global.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ErrorCode {
+
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST),
+    NOT_VERIFIED_EMAIL(HttpStatus.UNAUTHORIZED),
+    FORBIDDEN_BEHAVIOR(HttpStatus.FORBIDDEN),
+    NOT_FOUND_RESOURCE(HttpStatus.NOT_FOUND),
+    ALREADY_EXIST_RESOURCE(HttpStatus.CONFLICT),
+    INVALID_CODE(HttpStatus.CONFLICT),
+    NOT_MATCHED_PASSWORD(HttpStatus.CONFLICT),
+    PROCESSING_REQUEST(HttpStatus.CONFLICT),
+    NOT_MATCHED_REQUEST(HttpStatus.UNPROCESSABLE_ENTITY);
+
+    private final HttpStatus status;
+}
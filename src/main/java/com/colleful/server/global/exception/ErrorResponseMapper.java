@@ -0,0 +1,53 @@
+package com.colleful.server.global.exception;
+
+import com.colleful.server.global.dto.ErrorDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ErrorResponseMapper {
+
+    private static final int MAX_CACHED_BODIES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+
+    public ResponseEntity<byte[]> toResponse(ErrorCode errorCode, String message) {
+        return ResponseEntity.status(errorCode.getStatus())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(toBody(errorCode, message));
+    }
+
+    public byte[] toBody(ErrorCode errorCode, String message) {
+        String key = errorCode.name() + ":" + message;
+        byte[] body = bodies.get(key);
+
+        if (body != null) {
+            return body;
+        }
+
+        body = serialize(new ErrorDto.Response(errorCode, message));
+
+        if (bodies.size() < MAX_CACHED_BODIES) {
+            bodies.putIfAbsent(key, body);
+        }
+
+        return body;
+    }
+
+    private byte[] serialize(ErrorDto.Response response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,12 +1,8 @@
 package com.colleful.server.global.exception;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
-
-@ResponseStatus(HttpStatus.FORBIDDEN)
-public class ForbiddenBehaviorException extends RuntimeException {
+public class ForbiddenBehaviorException extends DomainException {
 
     public ForbiddenBehaviorException(String message) {
-        super(message);
+        super(ErrorCode.FORBIDDEN_BEHAVIOR, message);
     }
 }
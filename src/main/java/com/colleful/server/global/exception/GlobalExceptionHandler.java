@@ -0,0 +1,18 @@
+package com.colleful.server.global.exception;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class GlobalExceptionHandler {
+
+    private final ErrorResponseMapper errorResponseMapper;
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<byte[]> handleDomainException(DomainException e) {
+        return errorResponseMapper.toResponse(e.getErrorCode(), e.getMessage());
+    }
+}
@@ -1,12 +1,8 @@
 package com.colleful.server.global.exception;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
-
-@ResponseStatus(HttpStatus.CONFLICT)
-public class InvalidCodeException extends RuntimeException {
+public class InvalidCodeException extends DomainException {
 
     public InvalidCodeException(String message) {
-        super(message);
+        super(ErrorCode.INVALID_CODE, message);
     }
 }
@@ -0,0 +1,8 @@
+package com.colleful.server.global.exception;
+
+public class InvalidRequestException extends DomainException {
+
+    public InvalidRequestException(String message) {
+        super(ErrorCode.INVALID_REQUEST, message);
+    }
+}
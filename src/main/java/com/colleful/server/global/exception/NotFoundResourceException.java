@@ -1,12 +1,8 @@
 package com.colleful.server.global.exception;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
-
-@ResponseStatus(HttpStatus.NOT_FOUND)
-public class NotFoundResourceException extends RuntimeException {
+public class NotFoundResourceException extends DomainException {
 
     public NotFoundResourceException(String message) {
-        super(message);
+        super(ErrorCode.NOT_FOUND_RESOURCE, message);
     }
 }
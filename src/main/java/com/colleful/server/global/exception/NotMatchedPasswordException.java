@@ -1,12 +1,8 @@
 package com.colleful.server.global.exception;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
-
-@ResponseStatus(HttpStatus.CONFLICT)
-public class NotMatchedPasswordException extends RuntimeException {
+public class NotMatchedPasswordException extends DomainException {
 
     public NotMatchedPasswordException(String message) {
-        super(message);
+        super(ErrorCode.NOT_MATCHED_PASSWORD, message);
     }
 }
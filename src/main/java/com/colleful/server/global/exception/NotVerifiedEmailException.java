@@ -1,12 +1,8 @@
 package com.colleful.server.global.exception;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
-
-@ResponseStatus(HttpStatus.UNAUTHORIZED)
-public class NotVerifiedEmailException extends RuntimeException {
+public class NotVerifiedEmailException extends DomainException {
 
     public NotVerifiedEmailException(String message) {
-        super(message);
+        super(ErrorCode.NOT_VERIFIED_EMAIL, message);
     }
 }
@@ -0,0 +1,142 @@
+package com.colleful.server.global.expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ExpirySweeper {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+    private static final Duration OVERLAP = Duration.ofMinutes(1);
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final Duration ttl;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Function<LocalDateTime, Stream<Object[]>> source;
+    private final BiFunction<List<Long>, LocalDateTime, Integer> expirer;
+    private final TransactionTemplate transactionTemplate;
+    private final LongSupplier clock;
+    private final TimingWheel wheel;
+    private final Counter expiredCount;
+    private final Map<Long, LocalDateTime> recentlyScheduled = new HashMap<>();
+    private volatile LocalDateTime watermark = BEGINNING;
+
+    public ExpirySweeper(String name, Duration ttl, int batchSize, Duration batchPause,
+        Function<LocalDateTime, Stream<Object[]>> source,
+        BiFunction<List<Long>, LocalDateTime, Integer> expirer,
+        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this(name, ttl, batchSize, batchPause, source, expirer, transactionManager,
+            meterRegistry, System::currentTimeMillis);
+    }
+
+    ExpirySweeper(String name, Duration ttl, int batchSize, Duration batchPause,
+        Function<LocalDateTime, Stream<Object[]>> source,
+        BiFunction<List<Long>, LocalDateTime, Integer> expirer,
+        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+        LongSupplier clock) {
+        this.ttl = ttl;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.source = source;
+        this.expirer = expirer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.wheel = new TimingWheel(TICK_MILLIS, WHEEL_SIZE, clock.getAsLong());
+        this.expiredCount = meterRegistry.counter("expiry.expired", "name", name);
+        Gauge.builder("expiry.scheduled", wheel, TimingWheel::size)
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    public synchronized void poll() {
+        LocalDateTime since = watermark.minus(OVERLAP);
+        LocalDateTime[] latest = {watermark};
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = source.apply(since)) {
+                rows.forEach(row -> {
+                    Long id = (Long) row[0];
+                    LocalDateTime timestamp = (LocalDateTime) row[1];
+
+                    if (!timestamp.equals(recentlyScheduled.put(id, timestamp))) {
+                        wheel.add(id, toMillis(timestamp.plus(ttl)));
+                    }
+
+                    if (timestamp.isAfter(latest[0])) {
+                        latest[0] = timestamp;
+                    }
+                });
+            }
+        });
+
+        watermark = latest[0];
+        LocalDateTime nextSince = watermark.minus(OVERLAP);
+        recentlyScheduled.values().removeIf(timestamp -> !timestamp.isAfter(nextSince));
+    }
+
+    public int sweep() {
+        long now = clock.getAsLong();
+        List<Long> ids = new ArrayList<>();
+        wheel.advance(now, ids::add);
+
+        LocalDateTime cutoff = toLocalDateTime(now).minus(ttl);
+        int expired = 0;
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            if (from > 0 && !pause()) {
+                ids.subList(from, ids.size()).forEach(id -> wheel.add(id, now));
+                break;
+            }
+
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            Integer count = transactionTemplate.execute(status -> expirer.apply(chunk, cutoff));
+            expired += count != null ? count : 0;
+        }
+
+        expiredCount.increment(expired);
+        return expired;
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+
+    private boolean pause() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.toEpochMilli() + (instant.getNano() % 1_000_000 == 0 ? 0 : 1);
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
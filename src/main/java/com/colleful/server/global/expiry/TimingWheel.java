@@ -0,0 +1,145 @@
+package com.colleful.server.global.expiry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Bucket[]> levels = new ArrayList<>();
+    private final Bucket due = new Bucket();
+    private long currentTime;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - startMillis % tickMillis;
+    }
+
+    public synchronized void add(long id, long deadline) {
+        place(id, deadline);
+        size++;
+    }
+
+    public synchronized void advance(long now, LongConsumer expired) {
+        expire(due, expired);
+
+        if (size == 0) {
+            currentTime = Math.max(currentTime, now - now % tickMillis);
+            return;
+        }
+
+        while (currentTime + tickMillis <= now) {
+            currentTime += tickMillis;
+            expire(bucket(0, currentTime / tickMillis), expired);
+
+            for (int level = levels.size() - 1; level > 0; level--) {
+                long levelTick = levelTick(level);
+                if (currentTime % levelTick == 0) {
+                    cascade(bucket(level, currentTime / levelTick));
+                }
+            }
+
+            expire(due, expired);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(long id, long deadline) {
+        if (deadline <= currentTime) {
+            due.add(id, deadline);
+            return;
+        }
+
+        long slot = ceil(deadline, tickMillis);
+        if (slot - currentTime <= tickMillis * wheelSize) {
+            bucket(0, slot / tickMillis).add(id, deadline);
+            return;
+        }
+
+        for (int level = 1; ; level++) {
+            long levelTick = levelTick(level);
+            slot = deadline - deadline % levelTick;
+            if (slot - currentTime <= levelTick * wheelSize) {
+                bucket(level, slot / levelTick).add(id, deadline);
+                return;
+            }
+        }
+    }
+
+    private void cascade(Bucket bucket) {
+        Bucket entries = bucket.drain();
+        for (int i = 0; i < entries.size; i++) {
+            place(entries.ids[i], entries.deadlines[i]);
+        }
+    }
+
+    private void expire(Bucket bucket, LongConsumer expired) {
+        Bucket entries = bucket.drain();
+        for (int i = 0; i < entries.size; i++) {
+            expired.accept(entries.ids[i]);
+        }
+        size -= entries.size;
+    }
+
+    private Bucket bucket(int level, long slot) {
+        while (levels.size() <= level) {
+            Bucket[] buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            levels.add(buckets);
+        }
+
+        return levels.get(level)[(int) (slot % wheelSize)];
+    }
+
+    private long levelTick(int level) {
+        long levelTick = tickMillis;
+        for (int i = 0; i < level; i++) {
+            levelTick = Math.multiplyExact(levelTick, wheelSize);
+        }
+        return levelTick;
+    }
+
+    private static long ceil(long value, long unit) {
+        long remainder = value % unit;
+        return remainder == 0 ? value : value - remainder + unit;
+    }
+
+    private static class Bucket {
+
+        private long[] ids = new long[4];
+        private long[] deadlines = new long[4];
+        private int size;
+
+        private void add(long id, long deadline) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                deadlines = Arrays.copyOf(deadlines, size * 2);
+            }
+
+            ids[size] = id;
+            deadlines[size] = deadline;
+            size++;
+        }
+
+        private Bucket drain() {
+            Bucket entries = new Bucket();
+            entries.ids = ids;
+            entries.deadlines = deadlines;
+            entries.size = size;
+            ids = new long[4];
+            deadlines = new long[4];
+            size = 0;
+            return entries;
+        }
+    }
+}
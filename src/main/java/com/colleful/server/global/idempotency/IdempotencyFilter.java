@@ -0,0 +1,151 @@
+package com.colleful.server.global.idempotency;
+
+import com.colleful.server.global.exception.ErrorCode;
+import com.colleful.server.global.exception.ErrorResponseMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ErrorResponseMapper errorResponseMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER) == null || !METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain chain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            sendError(response, ErrorCode.INVALID_REQUEST, "잘못된 Idempotency-Key입니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+        String key = scope(request) + ":" + idempotencyKey;
+        Optional<IdempotentResponse> stored = idempotencyStore.find(key);
+        Optional<String> token = Optional.empty();
+
+        if (stored.isEmpty()) {
+            token = idempotencyStore.reserve(key);
+
+            if (token.isEmpty()) {
+                stored = idempotencyStore.find(key);
+
+                if (stored.isEmpty()) {
+                    sendError(response, ErrorCode.PROCESSING_REQUEST, "같은 요청을 처리하고 있습니다.");
+                    return;
+                }
+            }
+        }
+
+        if (stored.isPresent()) {
+            if (!fingerprint.equals(stored.get().getFingerprint())) {
+                sendError(response, ErrorCode.NOT_MATCHED_REQUEST,
+                    "같은 Idempotency-Key로 다른 요청을 보냈습니다.");
+                return;
+            }
+
+            replay(stored.get(), response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+
+        try {
+            chain.doFilter(cachedRequest, wrapper);
+
+            if (HttpStatus.valueOf(wrapper.getStatus()).is2xxSuccessful()) {
+                idempotencyStore.complete(key, new IdempotentResponse(fingerprint,
+                    wrapper.getStatus(), wrapper.getContentType(),
+                    wrapper.getHeader(HttpHeaders.LOCATION), wrapper.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(key, token.get());
+            }
+
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private String scope(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null ? authentication.getName() : "";
+        return principal + ":" + request.getMethod() + ":" + request.getRequestURI();
+    }
+
+    private String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            if (request.getQueryString() != null) {
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+
+            digest.update((byte) 0);
+            digest.update(request.getBody());
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sendError(HttpServletResponse response, ErrorCode errorCode, String message)
+        throws IOException {
+        byte[] body = errorResponseMapper.toBody(errorCode, message);
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void replay(IdempotentResponse stored, HttpServletResponse response)
+        throws IOException {
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+
+        if (stored.getLocation() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.getLocation());
+        }
+
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+}
@@ -0,0 +1,14 @@
+package com.colleful.server.global.idempotency;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    Optional<IdempotentResponse> find(String key);
+
+    Optional<String> reserve(String key);
+
+    void complete(String key, IdempotentResponse response);
+
+    void release(String key, String token);
+}
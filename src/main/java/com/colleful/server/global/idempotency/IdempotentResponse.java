@@ -0,0 +1,16 @@
+package com.colleful.server.global.idempotency;
+
+import java.io.Serializable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class IdempotentResponse implements Serializable {
+
+    private final String fingerprint;
+    private final int status;
+    private final String contentType;
+    private final String location;
+    private final byte[] body;
+}
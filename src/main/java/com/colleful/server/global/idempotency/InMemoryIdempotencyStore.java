@@ -0,0 +1,51 @@
+package com.colleful.server.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, Object> responses;
+
+    public InMemoryIdempotencyStore(Duration ttl, long maximumSize) {
+        this.responses = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        Object response = responses.getIfPresent(key);
+
+        if (response instanceof IdempotentResponse) {
+            return Optional.of((IdempotentResponse) response);
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> reserve(String key) {
+        String token = UUID.randomUUID().toString();
+
+        if (responses.asMap().putIfAbsent(key, token) != null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(token);
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        responses.put(key, response);
+    }
+
+    @Override
+    public void release(String key, String token) {
+        responses.asMap().remove(key, token);
+    }
+}
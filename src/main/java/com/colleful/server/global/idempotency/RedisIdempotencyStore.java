@@ -0,0 +1,59 @@
+package com.colleful.server.global.idempotency;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String PREFIX = "colleful:idempotency:v2:";
+    private static final Duration RESERVATION_TTL = Duration.ofMinutes(1);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) end return 0", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+
+    public RedisIdempotencyStore(RedisTemplate<String, Object> redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        Object response = redisTemplate.opsForValue().get(PREFIX + key);
+
+        if (response instanceof IdempotentResponse) {
+            return Optional.of((IdempotentResponse) response);
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> reserve(String key) {
+        String token = UUID.randomUUID().toString();
+
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+            .setIfAbsent(PREFIX + key, token, RESERVATION_TTL))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(token);
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        redisTemplate.opsForValue().set(PREFIX + key, response, ttl);
+    }
+
+    @Override
+    public void release(String key, String token) {
+        redisTemplate.execute(RELEASE, Collections.singletonList(PREFIX + key), token);
+    }
+}
@@ -0,0 +1,64 @@
+package com.colleful.server.global.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class QueryStatistics {
+
+    private static final int BUCKET_COUNT = 12;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final LongAccumulator maxMillis = new LongAccumulator(Long::max, 0);
+    private final LongAdder rows = new LongAdder();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    public void record(long elapsedMillis, long affectedRows) {
+        count.increment();
+        totalMillis.add(elapsedMillis);
+        maxMillis.accumulate(elapsedMillis);
+        rows.add(affectedRows);
+        buckets.incrementAndGet(bucketOf(elapsedMillis));
+    }
+
+    public Map<String, Object> snapshot() {
+        long total = count.sum();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("count", total);
+        snapshot.put("meanMillis", total == 0 ? 0 : (double) totalMillis.sum() / total);
+        snapshot.put("p50Millis", percentile(total, 0.5));
+        snapshot.put("p99Millis", percentile(total, 0.99));
+        snapshot.put("maxMillis", maxMillis.get());
+        snapshot.put("affectedRows", rows.sum());
+        return snapshot;
+    }
+
+    private long percentile(long total, double quantile) {
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target && seen > 0) {
+                return upperBoundOf(i);
+            }
+        }
+
+        return maxMillis.get();
+    }
+
+    private static int bucketOf(long millis) {
+        if (millis <= 0) {
+            return 0;
+        }
+
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(millis));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
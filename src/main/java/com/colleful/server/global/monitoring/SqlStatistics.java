@@ -0,0 +1,129 @@
+package com.colleful.server.global.monitoring;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlStatistics implements QueryExecutionListener {
+
+    private static final ThreadLocal<Map<String, Integer>> REQUEST_QUERIES = new ThreadLocal<>();
+    private static final String OTHER = "(other)";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile(
+        "(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final Map<String, QueryStatistics> queries = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> nPlusOneSuspects = new ConcurrentHashMap<>();
+
+    @Value("${monitoring.sql.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Value("${monitoring.sql.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${monitoring.sql.max-queries:500}")
+    private int maxQueries;
+
+    public void beginRequest() {
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            REQUEST_QUERIES.set(new HashMap<>());
+        }
+    }
+
+    public void endRequest(String handler) {
+        Map<String, Integer> counts = REQUEST_QUERIES.get();
+
+        if (counts == null) {
+            return;
+        }
+
+        REQUEST_QUERIES.remove();
+        counts.forEach((sql, count) -> {
+            if (count >= nPlusOneThreshold) {
+                bounded(nPlusOneSuspects, handler + " " + sql, LongAdder::new).increment();
+            }
+        });
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Map<String, Integer> counts = REQUEST_QUERIES.get();
+
+        if (counts == null) {
+            return;
+        }
+
+        long rows = affectedRows(execInfo.getResult());
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = normalize(queryInfo.getQuery());
+            bounded(queries, sql, QueryStatistics::new).record(execInfo.getElapsedTime(), rows);
+            counts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public Map<String, Map<String, Object>> getQueries() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        queries.forEach((sql, statistics) -> snapshot.put(sql, statistics.snapshot()));
+        return snapshot;
+    }
+
+    public Map<String, Long> getNPlusOneSuspects() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        nPlusOneSuspects.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+
+    public void reset() {
+        queries.clear();
+        nPlusOneSuspects.clear();
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return IN_LIST.matcher(normalized).replaceAll("in (?)");
+    }
+
+    private <T> T bounded(Map<String, T> map, String key, Supplier<T> factory) {
+        T value = map.get(key);
+
+        if (value != null) {
+            return value;
+        }
+
+        return map.computeIfAbsent(map.size() < maxQueries ? key : OTHER, ignored -> factory.get());
+    }
+
+    private long affectedRows(Object result) {
+        if (result instanceof Integer) {
+            return Math.max(0, (Integer) result);
+        }
+
+        if (result instanceof int[]) {
+            long sum = 0;
+            for (int count : (int[]) result) {
+                sum += Math.max(0, count);
+            }
+            return sum;
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.colleful.server.global.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "sql")
+@RequiredArgsConstructor
+public class SqlStatisticsEndpoint {
+
+    private final SqlStatistics sqlStatistics;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hibernate", hibernateStatistics());
+        result.put("queries", sqlStatistics.getQueries());
+        result.put("nPlusOneSuspects", sqlStatistics.getNPlusOneSuspects());
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+        getHibernateStatistics().clear();
+    }
+
+    private Map<String, Object> hibernateStatistics() {
+        Statistics statistics = getHibernateStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sessionOpenCount", statistics.getSessionOpenCount());
+        result.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        result.put("queryExecutionCount", statistics.getQueryExecutionCount());
+        result.put("queryExecutionMaxTime", statistics.getQueryExecutionMaxTime());
+        result.put("queryExecutionMaxTimeQueryString",
+            statistics.getQueryExecutionMaxTimeQueryString());
+        result.put("entityLoadCount", statistics.getEntityLoadCount());
+        result.put("entityFetchCount", statistics.getEntityFetchCount());
+        result.put("collectionFetchCount", statistics.getCollectionFetchCount());
+        result.put("entityInsertCount", statistics.getEntityInsertCount());
+        result.put("entityUpdateCount", statistics.getEntityUpdateCount());
+        result.put("entityDeleteCount", statistics.getEntityDeleteCount());
+        result.put("flushCount", statistics.getFlushCount());
+        result.put("transactionCount", statistics.getTransactionCount());
+
+        Map<String, Long> queryRows = new LinkedHashMap<>();
+        for (String query : statistics.getQueries()) {
+            queryRows.put(query, statistics.getQueryStatistics(query).getExecutionRowCount());
+        }
+        result.put("queryRowCounts", queryRows);
+        result.put("cacheRegions", cacheRegionStatistics(statistics));
+        return result;
+    }
+
+    private Map<String, Object> cacheRegionStatistics(Statistics statistics) {
+        Map<String, Object> regions = new LinkedHashMap<>();
+
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("hitCount", region.getHitCount());
+            result.put("missCount", region.getMissCount());
+            result.put("putCount", region.getPutCount());
+            result.put("elementCountInMemory", region.getElementCountInMemory());
+            regions.put(regionName, result);
+        }
+
+        regions.put("queryCacheHitCount", statistics.getQueryCacheHitCount());
+        regions.put("queryCacheMissCount", statistics.getQueryCacheMissCount());
+        return regions;
+    }
+
+    private Statistics getHibernateStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
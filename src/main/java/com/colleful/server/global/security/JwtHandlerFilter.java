@@ -0,0 +1,38 @@
+package com.colleful.server.global.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class JwtHandlerFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private static final String USER_ID = JwtHandlerFilter.class.getName() + ".userId";
+
+    private final JwtProvider provider;
+
+    public static Long getUserId(ServerRequest request) {
+        return (Long) request.attribute(USER_ID).orElseThrow(IllegalStateException::new);
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request,
+        HandlerFunction<ServerResponse> next) {
+        String token = request.headers().firstHeader(JwtProperties.HEADER);
+
+        if (token == null || !provider.isValidateToken(token)) {
+            return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        request.attributes().put(USER_ID, provider.getId(token));
+        return next.handle(request);
+    }
+}
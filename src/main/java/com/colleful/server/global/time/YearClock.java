@@ -0,0 +1,51 @@
+package com.colleful.server.global.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+public class YearClock {
+
+    private static volatile Snapshot snapshot = Snapshot.at(System.currentTimeMillis());
+
+    public static int currentYear() {
+        return currentYear(System.currentTimeMillis());
+    }
+
+    static int currentYear(long nowMillis) {
+        Snapshot current = snapshot;
+
+        if (nowMillis < current.startMillis || nowMillis >= current.nextYearMillis) {
+            current = Snapshot.at(nowMillis);
+            snapshot = current;
+        }
+
+        return current.year;
+    }
+
+    private static class Snapshot {
+
+        private final int year;
+        private final long startMillis;
+        private final long nextYearMillis;
+
+        private Snapshot(int year, long startMillis, long nextYearMillis) {
+            this.year = year;
+            this.startMillis = startMillis;
+            this.nextYearMillis = nextYearMillis;
+        }
+
+        private static Snapshot at(long millis) {
+            ZoneId zone = ZoneId.systemDefault();
+            int year = Instant.ofEpochMilli(millis).atZone(zone).getYear();
+            return new Snapshot(year, startOf(year, zone), startOf(year + 1, zone));
+        }
+
+        private static long startOf(int year, ZoneId zone) {
+            return LocalDate.of(year, 1, 1)
+                .atStartOfDay(zone)
+                .toInstant()
+                .toEpochMilli();
+        }
+    }
+}
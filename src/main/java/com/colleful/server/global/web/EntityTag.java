@@ -0,0 +1,32 @@
+package com.colleful.server.global.web;
+
+import com.colleful.server.global.time.YearClock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+public class EntityTag {
+
+    public static String of(Long id, LocalDateTime... updatedAts) {
+        StringBuilder tag = new StringBuilder(Long.toHexString(id));
+
+        for (LocalDateTime updatedAt : updatedAts) {
+            tag.append('-').append(Long.toHexString(toMicros(updatedAt)));
+        }
+
+        return tag.toString();
+    }
+
+    public static String withYear(Long id, LocalDateTime... updatedAts) {
+        return of(id, updatedAts) + '-' + Integer.toHexString(YearClock.currentYear());
+    }
+
+    private static long toMicros(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0;
+        }
+
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC),
+            updatedAt);
+    }
+}
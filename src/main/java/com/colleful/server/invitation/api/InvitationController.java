@@ -1,13 +1,15 @@
 package com.colleful.server.invitation.api;
 
+import com.colleful.server.global.dto.BatchDto;
 import com.colleful.server.global.security.JwtProperties;
 import com.colleful.server.invitation.dto.InvitationDto;
 import com.colleful.server.invitation.service.InvitationService;
-import com.colleful.server.invitation.domain.Invitation;
 import com.colleful.server.global.security.JwtProvider;
+import com.colleful.server.global.web.JsonStreamWriter;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
-import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,21 +30,22 @@ public class InvitationController {
 
     private final InvitationService invitationService;
     private final JwtProvider provider;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @GetMapping("/sent")
-    public List<InvitationDto.Response> getAllSentInvitations(
-        @RequestHeader(JwtProperties.HEADER) String token) {
-        List<Invitation> invitations = invitationService
-            .getAllSentInvitations(provider.getId(token));
-        return invitations.stream().map(InvitationDto.Response::new).collect(Collectors.toList());
+    public void getAllSentInvitations(@RequestHeader(JwtProperties.HEADER) String token,
+        HttpServletResponse response) throws IOException {
+        jsonStreamWriter.<InvitationDto.Response>writeArray(response, writer ->
+            invitationService.forEachSentInvitation(provider.getId(token),
+                invitation -> writer.accept(new InvitationDto.Response(invitation))));
     }
 
     @GetMapping("/received")
-    public List<InvitationDto.Response> getAllReceivedInvitations(
-        @RequestHeader(JwtProperties.HEADER) String token) {
-        List<Invitation> invitations = invitationService
-            .getAllReceivedInvitations(provider.getId(token));
-        return invitations.stream().map(InvitationDto.Response::new).collect(Collectors.toList());
+    public void getAllReceivedInvitations(@RequestHeader(JwtProperties.HEADER) String token,
+        HttpServletResponse response) throws IOException {
+        jsonStreamWriter.<InvitationDto.Response>writeArray(response, writer ->
+            invitationService.forEachReceivedInvitation(provider.getId(token),
+                invitation -> writer.accept(new InvitationDto.Response(invitation))));
     }
 
     @PostMapping("/{user-id}")
@@ -51,6 +55,12 @@ public class InvitationController {
         return ResponseEntity.created(URI.create("/api/invitation" + invitationId)).build();
     }
 
+    @PostMapping("/batch")
+    public List<BatchDto.Response> inviteAll(@RequestHeader(JwtProperties.HEADER) String token,
+        @RequestBody InvitationDto.BatchRequest request) {
+        return invitationService.inviteAll(request.getUserIds(), provider.getId(token));
+    }
+
     @PostMapping("/{id}/accept")
     public ResponseEntity<?> accept(@RequestHeader(JwtProperties.HEADER) String token,
         @PathVariable Long id) {
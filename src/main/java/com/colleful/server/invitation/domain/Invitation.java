@@ -8,8 +8,12 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
+import javax.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,12 +21,20 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
+@Table(
+    indexes = {
+        @Index(name = "idx_invitation_user_id", columnList = "user_id"),
+        @Index(name = "idx_invitation_created_at", columnList = "createdAt")},
+    uniqueConstraints = @UniqueConstraint(name = "uk_invitation_team_id_user_id",
+        columnNames = {"team_id", "user_id"}))
 @Getter
 @NoArgsConstructor
 public class Invitation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "invitation_id")
+    @TableGenerator(name = "invitation_id", table = "id_generator", pkColumnName = "name",
+        valueColumnName = "next_val", pkColumnValue = "invitation", allocationSize = 50)
     private Long id;
 
     @CreationTimestamp
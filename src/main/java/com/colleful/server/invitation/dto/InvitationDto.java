@@ -3,10 +3,17 @@ package com.colleful.server.invitation.dto;
 import com.colleful.server.invitation.domain.Invitation;
 import com.colleful.server.team.dto.TeamDto;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Getter;
 
 public class InvitationDto {
 
+    @Getter
+    public static class BatchRequest {
+
+        private List<Long> userIds;
+    }
+
     @Getter
     public static class Response {
 
@@ -3,18 +3,43 @@ package com.colleful.server.invitation.repository;
 import com.colleful.server.invitation.domain.Invitation;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.user.domain.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface InvitationRepository extends JpaRepository<Invitation, Long> {
 
-    List<Invitation> findAllByUser(User user);
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "100"))
+    @Query("select i from Invitation i join fetch i.team where i.user = :user")
+    Stream<Invitation> streamAllByUser(@Param("user") User user);
 
-    List<Invitation> findAllByTeam(Team team);
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "100"))
+    @Query("select i from Invitation i join fetch i.user where i.team = :team")
+    Stream<Invitation> streamAllByTeam(@Param("team") Team team);
 
     boolean existsByTeamAndUser(Team team, User user);
 
+    @Query("select i.user.id from Invitation i where i.team = :team and i.user.id in :userIds")
+    List<Long> findInvitedUserIds(@Param("team") Team team,
+        @Param("userIds") Collection<Long> userIds);
+
     void deleteAllByUser(User user);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select i.id, i.createdAt from Invitation i where i.createdAt > :since")
+    Stream<Object[]> streamCreatedAtSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from Invitation i where i.id in :ids and i.createdAt <= :cutoff")
+    int deleteAllExpired(@Param("ids") Collection<Long> ids,
+        @Param("cutoff") LocalDateTime cutoff);
 }
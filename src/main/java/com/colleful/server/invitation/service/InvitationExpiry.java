@@ -0,0 +1,42 @@
+package com.colleful.server.invitation.service;
+
+import com.colleful.server.global.expiry.ExpirySweeper;
+import com.colleful.server.invitation.repository.InvitationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Component
+@ConditionalOnProperty(name = "expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class InvitationExpiry {
+
+    private final ExpirySweeper invitations;
+
+    public InvitationExpiry(InvitationRepository invitationRepository,
+        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+        @Value("${expiry.invitation-ttl:P7D}") Duration ttl,
+        @Value("${expiry.batch-size:500}") int batchSize,
+        @Value("${expiry.batch-pause:PT0.05S}") Duration batchPause) {
+        this.invitations = new ExpirySweeper("invitation", ttl, batchSize, batchPause,
+            invitationRepository::streamCreatedAtSince, invitationRepository::deleteAllExpired,
+            transactionManager, meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${expiry.poll-interval:PT1M}",
+        initialDelayString = "${expiry.poll-interval:PT1M}")
+    public void poll() {
+        invitations.poll();
+    }
+
+    @Scheduled(fixedDelayString = "${expiry.sweep-interval:PT10S}")
+    public void sweep() {
+        invitations.sweep();
+    }
+}
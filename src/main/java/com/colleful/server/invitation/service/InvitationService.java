@@ -1,15 +1,19 @@
 package com.colleful.server.invitation.service;
 
+import com.colleful.server.global.dto.BatchDto;
 import com.colleful.server.invitation.domain.Invitation;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface InvitationService {
 
     Long invite(Long targetId, Long userId);
 
-    List<Invitation> getAllSentInvitations(Long userId);
+    List<BatchDto.Response> inviteAll(List<Long> targetIds, Long userId);
 
-    List<Invitation> getAllReceivedInvitations(Long userId);
+    void forEachSentInvitation(Long userId, Consumer<Invitation> action);
+
+    void forEachReceivedInvitation(Long userId, Consumer<Invitation> action);
 
     void accept(Long invitationId, Long userId);
 
@@ -1,5 +1,7 @@
 package com.colleful.server.invitation.service;
 
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.global.dto.BatchDto;
 import com.colleful.server.invitation.domain.Invitation;
 import com.colleful.server.invitation.repository.InvitationRepository;
 import com.colleful.server.team.domain.Team;
@@ -7,8 +9,19 @@ import com.colleful.server.team.service.TeamServiceForService;
 import com.colleful.server.user.domain.User;
 import com.colleful.server.user.service.UserServiceForService;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.InvalidRequestException;
 import com.colleful.server.global.exception.NotFoundResourceException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +34,8 @@ public class InvitationServiceImpl implements InvitationService {
     private final InvitationRepository invitationRepository;
     private final TeamServiceForService teamService;
     private final UserServiceForService userService;
+    private final BlockedUsers blockedUsers;
+    private final EntityManager entityManager;
 
     @Override
     public Long invite(Long targetId, Long userId) {
@@ -31,6 +46,10 @@ public class InvitationServiceImpl implements InvitationService {
             throw new ForbiddenBehaviorException("리더만 초대할 수 있습니다.");
         }
 
+        if (blockedUsers.isBlocked(userId, targetId)) {
+            throw new ForbiddenBehaviorException("초대할 수 없는 유저입니다.");
+        }
+
         if (invitationRepository.existsByTeamAndUser(team, targetUser)) {
             throw new ForbiddenBehaviorException("이미 초대했습니다.");
         }
@@ -41,15 +60,82 @@ public class InvitationServiceImpl implements InvitationService {
     }
 
     @Override
-    public List<Invitation> getAllSentInvitations(Long userId) {
+    public List<BatchDto.Response> inviteAll(List<Long> targetIds, Long userId) {
+        if (targetIds == null || targetIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("초대할 유저 목록이 올바르지 않습니다.");
+        }
+
+        if (targetIds.size() > BatchDto.MAX_SIZE) {
+            throw new InvalidRequestException("한 번에 최대 50명까지 초대할 수 있습니다.");
+        }
+
         Team team = teamService.getUserTeam(userId);
-        return invitationRepository.findAllByTeam(team);
+
+        if (!team.isLedBy(userId)) {
+            throw new ForbiddenBehaviorException("리더만 초대할 수 있습니다.");
+        }
+
+        Map<Long, User> targetUsers = userService.getUsers(targetIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        Set<Long> invitedUserIds = targetUsers.isEmpty() ?
+            new HashSet<>() :
+            new HashSet<>(invitationRepository.findInvitedUserIds(team, targetUsers.keySet()));
+
+        List<BatchDto.Response> results = new ArrayList<>();
+        for (Long targetId : targetIds) {
+            User targetUser = targetUsers.get(targetId);
+
+            if (targetUser == null) {
+                results.add(BatchDto.Response.failure(targetId, "가입되지 않은 유저입니다."));
+                continue;
+            }
+
+            if (blockedUsers.isBlocked(userId, targetId)) {
+                results.add(BatchDto.Response.failure(targetId, "초대할 수 없는 유저입니다."));
+                continue;
+            }
+
+            if (!invitedUserIds.add(targetId)) {
+                results.add(BatchDto.Response.failure(targetId, "이미 초대했습니다."));
+                continue;
+            }
+
+            try {
+                Invitation invitation = new Invitation(team, targetUser);
+                invitationRepository.save(invitation);
+                results.add(BatchDto.Response.success(targetId, invitation.getId()));
+            } catch (ForbiddenBehaviorException e) {
+                results.add(BatchDto.Response.failure(targetId, e.getMessage()));
+            }
+        }
+
+        return results;
+    }
+
+    @Override
+    public void forEachSentInvitation(Long userId, Consumer<Invitation> action) {
+        Team team = teamService.getUserTeam(userId);
+
+        try (Stream<Invitation> invitations = invitationRepository.streamAllByTeam(team)) {
+            invitations.forEach(invitation -> {
+                action.accept(invitation);
+                entityManager.detach(invitation);
+                entityManager.detach(invitation.getUser());
+            });
+        }
     }
 
     @Override
-    public List<Invitation> getAllReceivedInvitations(Long userId) {
+    public void forEachReceivedInvitation(Long userId, Consumer<Invitation> action) {
         User user = userService.getUser(userId);
-        return invitationRepository.findAllByUser(user);
+
+        try (Stream<Invitation> invitations = invitationRepository.streamAllByUser(user)) {
+            invitations.forEach(invitation -> {
+                action.accept(invitation);
+                entityManager.detach(invitation);
+                entityManager.detach(invitation.getTeam());
+            });
+        }
     }
 
     @Override
@@ -1,12 +1,14 @@
 package com.colleful.server.matching.api;
 
+import com.colleful.server.global.dto.BatchDto;
 import com.colleful.server.global.security.JwtProperties;
 import com.colleful.server.matching.dto.MatchingRequestDto;
-import com.colleful.server.matching.domain.MatchingRequest;
 import com.colleful.server.matching.service.MatchingRequestService;
 import com.colleful.server.global.security.JwtProvider;
+import com.colleful.server.global.web.JsonStreamWriter;
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,31 +30,41 @@ public class MatchingRequestController {
 
     private final MatchingRequestService matchingRequestService;
     private final JwtProvider provider;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @GetMapping("/sent")
-    public List<MatchingRequestDto.Response> getAllSentMatchingRequest(
-        @RequestHeader(JwtProperties.HEADER) String token) {
-        List<MatchingRequest> matches = matchingRequestService
-            .getAllSentMatchingRequests(provider.getId(token));
-        return matches.stream().map(MatchingRequestDto.Response::new).collect(Collectors.toList());
+    public void getAllSentMatchingRequest(@RequestHeader(JwtProperties.HEADER) String token,
+        HttpServletResponse response) throws IOException {
+        jsonStreamWriter.<MatchingRequestDto.Response>writeArray(response, writer ->
+            matchingRequestService.forEachSentMatchingRequest(provider.getId(token),
+                match -> writer.accept(new MatchingRequestDto.Response(match))));
     }
 
     @GetMapping("/received")
-    public List<MatchingRequestDto.Response> getAllReceivedMatchingRequests(
-        @RequestHeader(JwtProperties.HEADER) String token) {
-        List<MatchingRequest> matches = matchingRequestService
-            .getAllReceivedMatchingRequests(provider.getId(token));
-        return matches.stream().map(MatchingRequestDto.Response::new).collect(Collectors.toList());
+    public void getAllReceivedMatchingRequests(
+        @RequestHeader(JwtProperties.HEADER) String token, HttpServletResponse response)
+        throws IOException {
+        jsonStreamWriter.<MatchingRequestDto.Response>writeArray(response, writer ->
+            matchingRequestService.forEachReceivedMatchingRequest(provider.getId(token),
+                match -> writer.accept(new MatchingRequestDto.Response(match))));
     }
 
     @PostMapping("/{team-id}")
     public ResponseEntity<?> request(@RequestHeader(JwtProperties.HEADER) String token,
         @PathVariable("team-id") Long teamId) {
-        Long requestId = matchingRequestService
+        MatchingRequestDto.Result result = matchingRequestService
             .request(teamId, provider.getId(token));
         HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.LOCATION, "/api/matching/" + requestId);
-        return ResponseEntity.ok().headers(headers).build();
+        headers.add(HttpHeaders.LOCATION, result.isMatched() ?
+            "/api/teams/" + teamId :
+            "/api/matching/" + result.getId());
+        return ResponseEntity.ok().headers(headers).body(result);
+    }
+
+    @PostMapping("/batch")
+    public List<BatchDto.Response> requestAll(@RequestHeader(JwtProperties.HEADER) String token,
+        @RequestBody MatchingRequestDto.BatchRequest request) {
+        return matchingRequestService.requestAll(request.getTeamIds(), provider.getId(token));
     }
 
     @PostMapping("/{id}/accept")
@@ -7,8 +7,12 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
+import javax.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -17,13 +21,21 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
+@Table(
+    indexes = {
+        @Index(name = "idx_matching_request_receiver_id", columnList = "receiver_id"),
+        @Index(name = "idx_matching_request_created_at", columnList = "createdAt")},
+    uniqueConstraints = @UniqueConstraint(name = "uk_matching_request_sender_id_receiver_id",
+        columnNames = {"sender_id", "receiver_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
 public class MatchingRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "matching_request_id")
+    @TableGenerator(name = "matching_request_id", table = "id_generator", pkColumnName = "name",
+        valueColumnName = "next_val", pkColumnValue = "matching_request", allocationSize = 50)
     private Long id;
 
     @CreationTimestamp
@@ -3,10 +3,26 @@ package com.colleful.server.matching.dto;
 import com.colleful.server.matching.domain.MatchingRequest;
 import com.colleful.server.team.dto.TeamDto;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 public class MatchingRequestDto {
 
+    @Getter
+    public static class BatchRequest {
+
+        private List<Long> teamIds;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+
+        private final Long id;
+        private final boolean matched;
+    }
+
     @Getter
     public static class Response {
 
@@ -2,18 +2,55 @@ package com.colleful.server.matching.repository;
 
 import com.colleful.server.matching.domain.MatchingRequest;
 import com.colleful.server.team.domain.Team;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MatchingRequestRepository extends JpaRepository<MatchingRequest, Long> {
 
-    List<MatchingRequest> findAllByReceiver(Team receiver);
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "100"))
+    @Query("select m from MatchingRequest m join fetch m.sender where m.receiver = :receiver")
+    Stream<MatchingRequest> streamAllByReceiver(@Param("receiver") Team receiver);
 
-    List<MatchingRequest> findAllBySender(Team sender);
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "100"))
+    @Query("select m from MatchingRequest m join fetch m.receiver where m.sender = :sender")
+    Stream<MatchingRequest> streamAllBySender(@Param("sender") Team sender);
 
-    boolean existsBySenderAndReceiver(Team sender, Team receiver);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from MatchingRequest m "
+        + "where (m.sender = :first and m.receiver = :second) "
+        + "or (m.sender = :second and m.receiver = :first)")
+    List<MatchingRequest> findAllBetweenForUpdate(@Param("first") Team first,
+        @Param("second") Team second);
+
+    @Query("select m.receiver.id from MatchingRequest m "
+        + "where m.sender = :sender and m.receiver.id in :receiverIds")
+    List<Long> findRequestedReceiverIds(@Param("sender") Team sender,
+        @Param("receiverIds") Collection<Long> receiverIds);
 
     void deleteAllByReceiver(Team receiver);
+
+    @Modifying
+    @Query("delete from MatchingRequest m where m.sender in :teams or m.receiver in :teams")
+    int deleteAllByTeams(@Param("teams") Collection<Team> teams);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select m.id, m.createdAt from MatchingRequest m where m.createdAt > :since")
+    Stream<Object[]> streamCreatedAtSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from MatchingRequest m where m.id in :ids and m.createdAt <= :cutoff")
+    int deleteAllExpired(@Param("ids") Collection<Long> ids,
+        @Param("cutoff") LocalDateTime cutoff);
 }
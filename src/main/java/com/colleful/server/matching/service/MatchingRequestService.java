@@ -1,15 +1,20 @@
 package com.colleful.server.matching.service;
 
+import com.colleful.server.global.dto.BatchDto;
 import com.colleful.server.matching.domain.MatchingRequest;
+import com.colleful.server.matching.dto.MatchingRequestDto;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MatchingRequestService {
 
-    Long request(Long receiverId, Long userId);
+    MatchingRequestDto.Result request(Long receiverId, Long userId);
 
-    List<MatchingRequest> getAllSentMatchingRequests(Long userId);
+    List<BatchDto.Response> requestAll(List<Long> receiverIds, Long userId);
 
-    List<MatchingRequest> getAllReceivedMatchingRequests(Long userId);
+    void forEachSentMatchingRequest(Long userId, Consumer<MatchingRequest> action);
+
+    void forEachReceivedMatchingRequest(Long userId, Consumer<MatchingRequest> action);
 
     void accept(Long matchingId, Long userId);
 
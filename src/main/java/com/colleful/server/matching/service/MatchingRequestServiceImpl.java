@@ -1,12 +1,26 @@
 package com.colleful.server.matching.service;
 
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.global.dto.BatchDto;
 import com.colleful.server.matching.domain.MatchingRequest;
+import com.colleful.server.matching.dto.MatchingRequestDto;
 import com.colleful.server.matching.repository.MatchingRequestRepository;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.InvalidRequestException;
 import com.colleful.server.global.exception.NotFoundResourceException;
 import com.colleful.server.team.service.TeamServiceForService;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,9 +32,11 @@ public class MatchingRequestServiceImpl implements MatchingRequestService {
 
     private final MatchingRequestRepository matchingRequestRepository;
     private final TeamServiceForService teamService;
+    private final BlockedUsers blockedUsers;
+    private final EntityManager entityManager;
 
     @Override
-    public Long request(Long receiverId, Long userId) {
+    public MatchingRequestDto.Result request(Long receiverId, Long userId) {
         Team sender = teamService.getUserTeam(userId);
         Team receiver = teamService.getTeam(receiverId);
 
@@ -28,25 +44,94 @@ public class MatchingRequestServiceImpl implements MatchingRequestService {
             throw new ForbiddenBehaviorException("리더만 매칭 요청 할 수 있습니다.");
         }
 
-        if (matchingRequestRepository.existsBySenderAndReceiver(sender, receiver)) {
-            throw new ForbiddenBehaviorException("이미 매칭 요청한 팀입니다.");
+        if (blockedUsers.isBlockedTeam(userId, receiverId, receiver.getLeaderId())) {
+            throw new ForbiddenBehaviorException("매칭 요청할 수 없는 팀입니다.");
         }
 
-        MatchingRequest match = new MatchingRequest(sender, receiver);
-        matchingRequestRepository.save(match);
-        return match.getId();
+        teamService.lockForUpdate(sender, receiver);
+        return send(sender, receiver);
+    }
+
+    @Override
+    public List<BatchDto.Response> requestAll(List<Long> receiverIds, Long userId) {
+        if (receiverIds == null || receiverIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("매칭 요청할 팀 목록이 올바르지 않습니다.");
+        }
+
+        if (receiverIds.size() > BatchDto.MAX_SIZE) {
+            throw new InvalidRequestException("한 번에 최대 50팀까지 매칭 요청할 수 있습니다.");
+        }
+
+        Team sender = teamService.getUserTeam(userId);
+
+        if (!sender.isLedBy(userId)) {
+            throw new ForbiddenBehaviorException("리더만 매칭 요청 할 수 있습니다.");
+        }
+
+        Map<Long, Team> receivers = teamService.getTeams(receiverIds).stream()
+            .collect(Collectors.toMap(Team::getId, Function.identity()));
+        Set<Long> requestedTeamIds = receivers.isEmpty() ?
+            new HashSet<>() :
+            new HashSet<>(matchingRequestRepository
+                .findRequestedReceiverIds(sender, receivers.keySet()));
+        List<Team> lockedTeams = new ArrayList<>(receivers.values());
+        lockedTeams.add(sender);
+        teamService.lockForUpdate(lockedTeams);
+
+        List<BatchDto.Response> results = new ArrayList<>();
+        for (Long receiverId : receiverIds) {
+            Team receiver = receivers.get(receiverId);
+
+            if (receiver == null) {
+                results.add(BatchDto.Response.failure(receiverId, "존재하지 않는 팀입니다."));
+                continue;
+            }
+
+            if (blockedUsers.isBlockedTeam(userId, receiverId, receiver.getLeaderId())) {
+                results.add(BatchDto.Response.failure(receiverId, "매칭 요청할 수 없는 팀입니다."));
+                continue;
+            }
+
+            if (!requestedTeamIds.add(receiverId)) {
+                results.add(BatchDto.Response.failure(receiverId, "이미 매칭 요청한 팀입니다."));
+                continue;
+            }
+
+            try {
+                results.add(BatchDto.Response.success(receiverId, send(sender, receiver).getId()));
+            } catch (ForbiddenBehaviorException e) {
+                results.add(BatchDto.Response.failure(receiverId, e.getMessage()));
+            }
+        }
+
+        return results;
     }
 
     @Override
-    public List<MatchingRequest> getAllSentMatchingRequests(Long userId) {
+    public void forEachSentMatchingRequest(Long userId, Consumer<MatchingRequest> action) {
         Team team = teamService.getUserTeam(userId);
-        return matchingRequestRepository.findAllBySender(team);
+
+        try (Stream<MatchingRequest> matches = matchingRequestRepository.streamAllBySender(team)) {
+            matches.forEach(match -> {
+                action.accept(match);
+                entityManager.detach(match);
+                entityManager.detach(match.getReceiver());
+            });
+        }
     }
 
     @Override
-    public List<MatchingRequest> getAllReceivedMatchingRequests(Long userId) {
+    public void forEachReceivedMatchingRequest(Long userId, Consumer<MatchingRequest> action) {
         Team team = teamService.getUserTeam(userId);
-        return matchingRequestRepository.findAllByReceiver(team);
+
+        try (Stream<MatchingRequest> matches =
+            matchingRequestRepository.streamAllByReceiver(team)) {
+            matches.forEach(match -> {
+                action.accept(match);
+                entityManager.detach(match);
+                entityManager.detach(match.getSender());
+            });
+        }
     }
 
     @Override
@@ -57,6 +142,12 @@ public class MatchingRequestServiceImpl implements MatchingRequestService {
             throw new ForbiddenBehaviorException("리더만 매칭 수락할 수 있습니다.");
         }
 
+        lockPending(match);
+
+        if (match.getReceiver().isNotReady()) {
+            throw new ForbiddenBehaviorException("준비된 팀만 매칭 수락할 수 있습니다.");
+        }
+
         match.accept();
 
         matchingRequestRepository.deleteAllByReceiver(match.getReceiver());
@@ -70,6 +161,9 @@ public class MatchingRequestServiceImpl implements MatchingRequestService {
             throw new ForbiddenBehaviorException("리더만 매칭 거절할 수 있습니다.");
         }
 
+        lockPending(match);
+
+        teamService.markSeen(match.getReceiver().getId(), match.getSender().getId());
         matchingRequestRepository.deleteById(matchingId);
     }
 
@@ -81,9 +175,49 @@ public class MatchingRequestServiceImpl implements MatchingRequestService {
             throw new ForbiddenBehaviorException("취소 권한이 없습니다.");
         }
 
+        lockPending(match);
+
         matchingRequestRepository.deleteById(matchingId);
     }
 
+    private MatchingRequestDto.Result send(Team sender, Team receiver) {
+        MatchingRequest reverse = null;
+        for (MatchingRequest pending :
+            matchingRequestRepository.findAllBetweenForUpdate(sender, receiver)) {
+            if (pending.getSender().getId().equals(sender.getId())) {
+                throw new ForbiddenBehaviorException("이미 매칭 요청한 팀입니다.");
+            }
+            reverse = pending;
+        }
+
+        if (reverse != null) {
+            if (sender.isNotReady() || receiver.isNotReady()) {
+                throw new ForbiddenBehaviorException("준비된 팀끼리만 매칭할 수 있습니다.");
+            }
+
+            reverse.accept();
+            matchingRequestRepository.deleteAllByTeams(List.of(sender, receiver));
+            teamService.recordMatchingRequest(sender.getId(), receiver.getId());
+            return new MatchingRequestDto.Result(reverse.getId(), true);
+        }
+
+        MatchingRequest match = new MatchingRequest(sender, receiver);
+        matchingRequestRepository.save(match);
+        teamService.recordMatchingRequest(sender.getId(), receiver.getId());
+        return new MatchingRequestDto.Result(match.getId(), false);
+    }
+
+    private void lockPending(MatchingRequest match) {
+        teamService.lockForUpdate(match.getSender(), match.getReceiver());
+        boolean pending = matchingRequestRepository
+            .findAllBetweenForUpdate(match.getSender(), match.getReceiver()).stream()
+            .anyMatch(locked -> Objects.equals(locked.getId(), match.getId()));
+
+        if (!pending) {
+            throw new NotFoundResourceException("매칭 요청이 없습니다.");
+        }
+    }
+
     private MatchingRequest getMatchingRequest(Long id) {
         return matchingRequestRepository.findById(id)
             .orElseThrow(() -> new NotFoundResourceException("매칭 요청이 없습니다."));
@@ -7,15 +7,20 @@ import com.colleful.server.team.dto.TeamDto;
 import com.colleful.server.team.service.TeamServiceForController;
 import com.colleful.server.user.domain.User;
 import com.colleful.server.user.dto.UserDto;
+import com.colleful.server.global.dto.AvailabilityDto;
 import com.colleful.server.global.dto.PageDto;
 import com.colleful.server.global.security.JwtProvider;
+import com.colleful.server.global.web.EntityTag;
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -26,7 +31,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/teams")
@@ -34,33 +41,84 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class TeamController {
 
+    private static final CacheControl TEAM_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final CacheControl MEMBERS_CACHE_CONTROL =
+        CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate();
+
     private final TeamServiceForController teamService;
     private final JwtProvider provider;
 
     @GetMapping
-    public PageDto.Response<TeamDto.Response> getAllReadyTeams(@PageableDefault Pageable request) {
-        Page<Team> teams = teamService.getAllReadyTeams(request);
-        return new PageDto.Response<>(teams.map(TeamDto.Response::new));
+    public PageDto.Response<TeamDto.Response> getAllReadyTeams(
+        @RequestHeader(JwtProperties.HEADER) String token, @PageableDefault Pageable request) {
+        return teamService.getUnseenReadyTeams(provider.getId(token), request);
+    }
+
+    @GetMapping("/trending")
+    public List<TeamDto.Response> getTrendingTeams(
+        @RequestHeader(JwtProperties.HEADER) String token) {
+        return teamService.getTrendingTeams(provider.getId(token));
+    }
+
+    @GetMapping("/recommendations")
+    public List<TeamDto.Response> getRecommendedTeams(
+        @RequestHeader(JwtProperties.HEADER) String token,
+        @RequestParam(defaultValue = "10") int size) {
+        return teamService.getRecommendedTeams(provider.getId(token), size);
     }
 
     @GetMapping("/{id}")
-    public TeamDto.Response getTeamInfo(@RequestHeader(JwtProperties.HEADER) String token,
-        @PathVariable Long id) {
-        Team team = teamService.getTeam(id, provider.getId(token));
-        return new TeamDto.Response(team);
+    public ResponseEntity<TeamDto.Response> getTeamInfo(
+        @RequestHeader(JwtProperties.HEADER) String token, @PathVariable Long id,
+        WebRequest request) {
+        TeamDto.Response team = teamService.getTeamInfo(id, provider.getId(token));
+        String eTag = EntityTag.of(team.getId(), team.getUpdatedAt());
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(TEAM_CACHE_CONTROL)
+                .build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(TEAM_CACHE_CONTROL)
+            .body(team);
     }
 
     @GetMapping("/team-name/{team-name}")
-    public PageDto.Response<TeamDto.Response> searchTeams(@PageableDefault Pageable request,
+    public PageDto.Response<TeamDto.Response> searchTeams(
+        @RequestHeader(JwtProperties.HEADER) String token, @PageableDefault Pageable request,
         @PathVariable("team-name") String teamName) {
-        Page<Team> teams = teamService.searchTeams(request, teamName);
+        Page<Team> teams = teamService.searchTeams(provider.getId(token), request, teamName);
         return new PageDto.Response<>(teams.map(TeamDto.Response::new));
     }
 
+    @GetMapping("/team-name-availability")
+    public AvailabilityDto.Response checkTeamName(
+        @RequestParam("team-name") String teamName) {
+        return new AvailabilityDto.Response(teamService.isAvailableTeamName(teamName));
+    }
+
     @GetMapping("/{id}/members")
-    public List<UserDto.Response> getMembers(@PathVariable Long id) {
+    public ResponseEntity<List<UserDto.Summary>> getMembers(
+        @RequestHeader(JwtProperties.HEADER) String token, @PathVariable Long id,
+        WebRequest request) {
+        String eTag = teamService.getMembersVersion(id, provider.getId(token));
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(MEMBERS_CACHE_CONTROL)
+                .build();
+        }
+
         List<User> users = teamService.getMembers(id);
-        return users.stream().map(UserDto.Response::new).collect(Collectors.toList());
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(MEMBERS_CACHE_CONTROL)
+            .body(users.stream().map(UserDto.Summary::new).collect(Collectors.toList()));
     }
 
     @PostMapping
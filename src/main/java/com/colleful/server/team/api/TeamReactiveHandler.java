@@ -0,0 +1,161 @@
+package com.colleful.server.team.api;
+
+import com.colleful.server.block.service.BlockList;
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.global.dto.PageDto;
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.NotFoundResourceException;
+import com.colleful.server.global.security.JwtHandlerFilter;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.dto.TeamDto;
+import com.colleful.server.team.repository.TeamReactiveRepository;
+import com.colleful.server.team.service.SeenTeamsStore;
+import com.colleful.server.user.repository.UserReactiveRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Component
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TeamReactiveHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 2000;
+    private static final int SCAN_PAGE_SIZE = 50;
+    private static final int MAX_SCAN_PAGES = 20;
+
+    private final TeamReactiveRepository teamRepository;
+    private final UserReactiveRepository userRepository;
+    private final BlockedUsers blockedUsers;
+    private final SeenTeamsStore seenTeamsStore;
+
+    public Mono<ServerResponse> getAllReadyTeams(ServerRequest request) {
+        Pageable pageable = getPageable(request);
+        Long userId = JwtHandlerFilter.getUserId(request);
+
+        return Mono.zip(getSeenTeams(userId), getBlockList(userId)).flatMap(hidden -> {
+            RoaringBitmap seen = hidden.getT1();
+            BlockList blocks = hidden.getT2();
+
+            if (seen.isEmpty() && blocks.isEmpty()) {
+                return toPage(pageable,
+                    teamRepository.findAllByStatusOrderByUpdatedAtDesc(pageable, TeamStatus.READY),
+                    teamRepository.countByStatus(TeamStatus.READY));
+            }
+
+            return toVisiblePage(pageable,
+                pageNumber -> teamRepository.findAllByStatusOrderByUpdatedAtDesc(
+                    PageRequest.of(pageNumber, SCAN_PAGE_SIZE), TeamStatus.READY),
+                teamRepository.countByStatus(TeamStatus.READY),
+                team -> SeenTeamsStore.isSeen(seen, team.getId())
+                    || blocks.hidesTeam(team.getId(), team.getLeaderId()));
+        });
+    }
+
+    public Mono<ServerResponse> getTeamInfo(ServerRequest request) {
+        Long teamId = Long.valueOf(request.pathVariable("id"));
+        Long userId = JwtHandlerFilter.getUserId(request);
+
+        return teamRepository.findById(teamId)
+            .switchIfEmpty(Mono.error(new NotFoundResourceException("존재하지 않는 팀입니다.")))
+            .flatMap(team -> checkVisible(team, userId))
+            .flatMap(team -> ServerResponse.ok().bodyValue(new TeamDto.Response(team)));
+    }
+
+    public Mono<ServerResponse> searchTeams(ServerRequest request) {
+        Pageable pageable = getPageable(request);
+        String teamName = request.pathVariable("team-name");
+        Long userId = JwtHandlerFilter.getUserId(request);
+
+        return getBlockList(userId).flatMap(blocks -> blocks.isEmpty() ?
+            toPage(pageable,
+                teamRepository.findAllByStatusAndTeamNameContainingOrderByUpdatedAtDesc(pageable,
+                    TeamStatus.READY, teamName),
+                teamRepository.countByStatusAndTeamNameContaining(TeamStatus.READY, teamName)) :
+            toVisiblePage(pageable,
+                pageNumber -> teamRepository
+                    .findAllByStatusAndTeamNameContainingOrderByUpdatedAtDesc(
+                        PageRequest.of(pageNumber, SCAN_PAGE_SIZE), TeamStatus.READY, teamName),
+                teamRepository.countByStatusAndTeamNameContaining(TeamStatus.READY, teamName),
+                team -> blocks.hidesTeam(team.getId(), team.getLeaderId())));
+    }
+
+    private Mono<RoaringBitmap> getSeenTeams(Long userId) {
+        return userRepository.findTeamIdById(userId)
+            .publishOn(Schedulers.boundedElastic())
+            .map(teamId -> teamId.map(seenTeamsStore::get).orElseGet(RoaringBitmap::new))
+            .defaultIfEmpty(new RoaringBitmap());
+    }
+
+    private Mono<BlockList> getBlockList(Long userId) {
+        return Mono.fromCallable(() -> blockedUsers.get(userId))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Team> checkVisible(Team team, Long userId) {
+        if (!team.isNotReady()) {
+            return Mono.just(team);
+        }
+
+        return userRepository.existsByIdAndTeamId(userId, team.getId())
+            .flatMap(isMember -> isMember ?
+                Mono.just(team) :
+                Mono.error(new ForbiddenBehaviorException("권한이 없습니다.")));
+    }
+
+    private Mono<ServerResponse> toPage(Pageable pageable, Flux<Team> teams, Mono<Long> count) {
+        return teams.map(TeamDto.Response::new)
+            .collectList()
+            .zipWith(count)
+            .map(result -> new PageDto.Response<>(
+                new PageImpl<>(result.getT1(), pageable, result.getT2())))
+            .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    private Mono<ServerResponse> toVisiblePage(Pageable pageable, IntFunction<Flux<Team>> pages,
+        Mono<Long> count, Predicate<Team> hidden) {
+        AtomicLong hiddenCount = new AtomicLong();
+        Flux<Team> visible = Flux.range(0, MAX_SCAN_PAGES)
+            .concatMap(pageNumber -> pages.apply(pageNumber).collectList(), 1)
+            .takeWhile(teams -> !teams.isEmpty())
+            .flatMapIterable(Function.identity())
+            .filter(team -> {
+                if (hidden.test(team)) {
+                    hiddenCount.incrementAndGet();
+                    return false;
+                }
+                return true;
+            })
+            .skip(pageable.getOffset())
+            .take(pageable.getPageSize());
+
+        return visible.map(TeamDto.Response::new)
+            .collectList()
+            .zipWith(count)
+            .map(result -> new PageDto.Response<>(new PageImpl<>(result.getT1(), pageable,
+                Math.max(result.getT2() - hiddenCount.get(),
+                    pageable.getOffset() + result.getT1().size()))))
+            .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    private Pageable getPageable(ServerRequest request) {
+        int page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+        return PageRequest.of(Math.max(0, page), Math.min(Math.max(1, size), MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,61 @@
+package com.colleful.server.team.domain;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.roaringbitmap.RoaringBitmap;
+
+@Entity
+@Table(name = "seen_teams")
+@Getter
+@NoArgsConstructor
+public class SeenTeams {
+
+    @Id
+    private Long teamId;
+
+    @Column(nullable = false, columnDefinition = "mediumblob")
+    private byte[] bitmap;
+
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public SeenTeams(Long teamId) {
+        this.teamId = teamId;
+        this.bitmap = serialize(new RoaringBitmap());
+    }
+
+    public RoaringBitmap toBitmap() {
+        RoaringBitmap seen = new RoaringBitmap();
+        try {
+            seen.deserialize(ByteBuffer.wrap(this.bitmap));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return seen;
+    }
+
+    public void merge(RoaringBitmap seen) {
+        RoaringBitmap merged = RoaringBitmap.or(toBitmap(), seen);
+        merged.runOptimize();
+        this.bitmap = serialize(merged);
+    }
+
+    private static byte[] serialize(RoaringBitmap seen) {
+        ByteBuffer buffer = ByteBuffer.allocate(seen.serializedSizeInBytes());
+        seen.serialize(buffer);
+        return buffer.array();
+    }
+}
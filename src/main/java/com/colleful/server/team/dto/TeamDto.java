@@ -1,6 +1,7 @@
 package com.colleful.server.team.dto;
 
 import com.colleful.server.team.domain.Team;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,7 +17,7 @@ public class TeamDto {
     }
 
     @Getter
-    public static class Response {
+    public static class Response implements Serializable {
 
         private final Long id;
         private final LocalDateTime updatedAt;
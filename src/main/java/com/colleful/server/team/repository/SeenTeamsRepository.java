@@ -0,0 +1,9 @@
+package com.colleful.server.team.repository;
+
+import com.colleful.server.team.domain.SeenTeams;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeenTeamsRepository extends JpaRepository<SeenTeams, Long> {
+}
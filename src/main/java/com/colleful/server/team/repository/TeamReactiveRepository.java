@@ -0,0 +1,84 @@
+package com.colleful.server.team.repository;
+
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.user.domain.Gender;
+import io.r2dbc.spi.Row;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TeamReactiveRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Team> findById(Long id) {
+        return databaseClient.execute("select * from team where id = :id")
+            .bind("id", id)
+            .map((row, metadata) -> toTeam(row))
+            .one();
+    }
+
+    public Flux<Team> findAllByStatusOrderByUpdatedAtDesc(Pageable pageable, TeamStatus status) {
+        return databaseClient.execute("select * from team where status = :status "
+            + "order by updated_at desc limit :size offset :offset")
+            .bind("status", status.name())
+            .bind("size", pageable.getPageSize())
+            .bind("offset", pageable.getOffset())
+            .map((row, metadata) -> toTeam(row))
+            .all();
+    }
+
+    public Mono<Long> countByStatus(TeamStatus status) {
+        return databaseClient.execute("select count(*) from team where status = :status")
+            .bind("status", status.name())
+            .map((row, metadata) -> row.get(0, Long.class))
+            .one();
+    }
+
+    public Flux<Team> findAllByStatusAndTeamNameContainingOrderByUpdatedAtDesc(Pageable pageable,
+        TeamStatus status, String teamName) {
+        return databaseClient.execute("select * from team where status = :status "
+            + "and team_name like :teamName order by updated_at desc limit :size offset :offset")
+            .bind("status", status.name())
+            .bind("teamName", containing(teamName))
+            .bind("size", pageable.getPageSize())
+            .bind("offset", pageable.getOffset())
+            .map((row, metadata) -> toTeam(row))
+            .all();
+    }
+
+    public Mono<Long> countByStatusAndTeamNameContaining(TeamStatus status, String teamName) {
+        return databaseClient.execute("select count(*) from team where status = :status "
+            + "and team_name like :teamName")
+            .bind("status", status.name())
+            .bind("teamName", containing(teamName))
+            .map((row, metadata) -> row.get(0, Long.class))
+            .one();
+    }
+
+    private String containing(String value) {
+        return "%" + value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private Team toTeam(Row row) {
+        return Team.builder()
+            .id(row.get("id", Long.class))
+            .updatedAt(row.get("updated_at", LocalDateTime.class))
+            .teamName(row.get("team_name", String.class))
+            .gender(Gender.valueOf(row.get("gender", String.class)))
+            .status(TeamStatus.valueOf(row.get("status", String.class)))
+            .headcount(row.get("headcount", Integer.class))
+            .leaderId(row.get("leader_id", Long.class))
+            .matchedTeamId(row.get("matched_team_id", Long.class))
+            .build();
+    }
+}
@@ -2,9 +2,19 @@ package com.colleful.server.team.repository;
 
 import com.colleful.server.team.domain.TeamStatus;
 import com.colleful.server.team.domain.Team;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +26,53 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     Page<Team> findAllByStatusAndTeamNameContainingOrderByUpdatedAtDesc(Pageable pageable,
         TeamStatus status, String teamName);
+
+    @Query(value = "select t from Team t where t.status = :status and t.teamName like :teamName "
+        + "and not exists (select u.id from User u where u.teamId = t.id and ("
+        + "u.id in (select b.blockedId from Block b where b.blockerId = :userId) or "
+        + "u.id in (select b.blockerId from Block b where b.blockedId = :userId))) "
+        + "order by t.updatedAt desc",
+        countQuery = "select count(t) from Team t where t.status = :status "
+            + "and t.teamName like :teamName "
+            + "and not exists (select u.id from User u where u.teamId = t.id and ("
+            + "u.id in (select b.blockedId from Block b where b.blockerId = :userId) or "
+            + "u.id in (select b.blockerId from Block b where b.blockedId = :userId)))")
+    Page<Team> findAllVisibleByStatusAndTeamNameLike(Pageable pageable,
+        @Param("status") TeamStatus status, @Param("teamName") String teamName,
+        @Param("userId") Long userId);
+
+    boolean existsByTeamName(String teamName);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select t.teamName from Team t")
+    Stream<String> streamAllTeamNames();
+
+    @Query("select t.status from Team t where t.id = :id")
+    Optional<TeamStatus> findStatusById(@Param("id") Long id);
+
+    @Query("select t.updatedAt from Team t where t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select t.id, t.gender, t.headcount, u.birthYear, d.collegeName "
+        + "from Team t, User u join u.department d "
+        + "where u.teamId = t.id and t.status = :status order by t.id")
+    Stream<Object[]> streamMemberFeaturesByStatus(@Param("status") TeamStatus status);
+
+    @Query("select t.id, t.gender, t.headcount, u.birthYear, d.collegeName "
+        + "from Team t, User u join u.department d "
+        + "where u.teamId = t.id and t.id = :id")
+    List<Object[]> findMemberFeaturesByTeamId(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select t.id, t.updatedAt from Team t where t.status = :status and t.updatedAt > :since")
+    Stream<Object[]> streamUpdatedAtByStatusSince(@Param("status") TeamStatus status,
+        @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("update Team t set t.status = :status, t.updatedAt = :now "
+        + "where t.id in :ids and t.status = :current and t.updatedAt <= :cutoff")
+    int updateAllIdle(@Param("ids") Collection<Long> ids, @Param("current") TeamStatus current,
+        @Param("status") TeamStatus status, @Param("cutoff") LocalDateTime cutoff,
+        @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,112 @@
+package com.colleful.server.team.service;
+
+import com.colleful.server.team.domain.SeenTeams;
+import com.colleful.server.team.repository.SeenTeamsRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class SeenTeamsStore {
+
+    private final SeenTeamsRepository seenTeamsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LoadingCache<Long, RoaringBitmap> bitmaps;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public SeenTeamsStore(SeenTeamsRepository seenTeamsRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${seen-teams.maximum-size:10000}") long maximumSize,
+        @Value("${seen-teams.expire-after-write:PT1M}") Duration expireAfterWrite) {
+        this(seenTeamsRepository, transactionManager, maximumSize, expireAfterWrite,
+            Ticker.systemTicker());
+    }
+
+    SeenTeamsStore(SeenTeamsRepository seenTeamsRepository,
+        PlatformTransactionManager transactionManager, long maximumSize,
+        Duration expireAfterWrite, Ticker ticker) {
+        this.seenTeamsRepository = seenTeamsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bitmaps = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .ticker(ticker)
+            .removalListener((Long teamId, RoaringBitmap bitmap, RemovalCause cause) -> {
+                if (cause.wasEvicted() && dirty.remove(teamId)) {
+                    persist(teamId, bitmap);
+                }
+            })
+            .build(this::load);
+    }
+
+    public RoaringBitmap get(Long teamId) {
+        return bitmaps.get(teamId);
+    }
+
+    public static boolean isSeen(RoaringBitmap bitmap, Long teamId) {
+        return teamId <= Integer.MAX_VALUE && bitmap.contains(teamId.intValue());
+    }
+
+    public void markSeen(Long teamId, Long seenTeamId) {
+        if (seenTeamId > Integer.MAX_VALUE) {
+            return;
+        }
+
+        int seen = seenTeamId.intValue();
+
+        if (bitmaps.get(teamId).contains(seen)) {
+            return;
+        }
+
+        bitmaps.asMap().compute(teamId, (id, bitmap) -> {
+            RoaringBitmap next = bitmap == null ? load(id) : bitmap.clone();
+            next.add(seen);
+            return next;
+        });
+        dirty.add(teamId);
+    }
+
+    @Scheduled(fixedDelayString = "${seen-teams.flush-interval:PT5S}")
+    public void flush() {
+        for (Long teamId : dirty) {
+            dirty.remove(teamId);
+            RoaringBitmap bitmap = bitmaps.getIfPresent(teamId);
+
+            if (bitmap != null) {
+                persist(teamId, bitmap);
+            }
+        }
+    }
+
+    private RoaringBitmap load(Long teamId) {
+        return seenTeamsRepository.findById(teamId)
+            .map(SeenTeams::toBitmap)
+            .orElseGet(RoaringBitmap::new);
+    }
+
+    private void persist(Long teamId, RoaringBitmap bitmap) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                SeenTeams seenTeams = seenTeamsRepository.findById(teamId)
+                    .orElseGet(() -> new SeenTeams(teamId));
+                seenTeams.merge(bitmap);
+                seenTeamsRepository.save(seenTeams);
+            });
+        } catch (DataAccessException e) {
+            dirty.add(teamId);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.colleful.server.team.service;
+
+import com.colleful.server.user.domain.Gender;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class TeamFeatures {
+
+    private static final int SPLIT_THRESHOLD = 8192;
+    private static final float HEADCOUNT_WEIGHT = 0.4f;
+    private static final float BIRTH_YEAR_WEIGHT = 0.3f;
+    private static final float COLLEGE_WEIGHT = 0.3f;
+
+    private final long[] teamIds;
+    private final byte[] genders;
+    private final int[] headcounts;
+    private final float[] birthYears;
+    private final long[] colleges;
+    private final int size;
+    private final Map<String, Integer> collegeIds;
+
+    private TeamFeatures(Builder builder) {
+        this.size = builder.size;
+        this.teamIds = Arrays.copyOf(builder.teamIds, size);
+        this.genders = Arrays.copyOf(builder.genders, size);
+        this.headcounts = Arrays.copyOf(builder.headcounts, size);
+        this.birthYears = Arrays.copyOf(builder.birthYears, size);
+        this.colleges = Arrays.copyOf(builder.colleges, size);
+        this.collegeIds = builder.collegeIds;
+    }
+
+    public static Builder builder() {
+        return new Builder(new HashMap<>(), true);
+    }
+
+    public Builder queryBuilder() {
+        return new Builder(collegeIds, false);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] rank(TeamFeatures query, int limit) {
+        if (query.size == 0 || limit <= 0) {
+            return new long[0];
+        }
+
+        TopTeams top = size <= SPLIT_THRESHOLD ?
+            new Scorer(this, query, 0, size, limit).compute() :
+            ForkJoinPool.commonPool().invoke(new Scorer(this, query, 0, size, limit));
+        return top.teamIds(this);
+    }
+
+    private boolean isCandidate(int i, TeamFeatures query) {
+        return teamIds[i] != query.teamIds[0] && genders[i] != query.genders[0];
+    }
+
+    private float score(int i, TeamFeatures query) {
+        float headcount = 1f / (1 + Math.abs(headcounts[i] - query.headcounts[0]));
+        float birthYear = 1f / (1 + Math.abs(birthYears[i] - query.birthYears[0]) / 2);
+        long union = colleges[i] | query.colleges[0];
+        float college = union == 0 ?
+            0 :
+            (float) Long.bitCount(colleges[i] & query.colleges[0]) / Long.bitCount(union);
+        return HEADCOUNT_WEIGHT * headcount + BIRTH_YEAR_WEIGHT * birthYear
+            + COLLEGE_WEIGHT * college;
+    }
+
+    public static class Builder {
+
+        private final Map<String, Integer> collegeIds;
+        private final boolean addsColleges;
+        private long[] teamIds = new long[16];
+        private byte[] genders = new byte[16];
+        private int[] headcounts = new int[16];
+        private float[] birthYears = new float[16];
+        private long[] colleges = new long[16];
+        private int size;
+        private int members;
+
+        private Builder(Map<String, Integer> collegeIds, boolean addsColleges) {
+            this.collegeIds = collegeIds;
+            this.addsColleges = addsColleges;
+        }
+
+        public Builder add(Object[] row) {
+            return add((Long) row[0], (Gender) row[1], (Integer) row[2], (Integer) row[3],
+                (String) row[4]);
+        }
+
+        public Builder add(Long teamId, Gender gender, int headcount, int birthYear,
+            String collegeName) {
+            if (size == 0 || teamIds[size - 1] != teamId) {
+                finishTeam();
+                grow();
+                teamIds[size] = teamId;
+                genders[size] = (byte) gender.ordinal();
+                headcounts[size] = headcount;
+                size++;
+            }
+
+            int last = size - 1;
+            birthYears[last] += birthYear;
+            members++;
+
+            Integer collegeId = addsColleges ?
+                collegeIds.computeIfAbsent(collegeName, name -> collegeIds.size()) :
+                collegeIds.get(collegeName);
+            if (collegeId != null) {
+                colleges[last] |= 1L << (collegeId & 63);
+            }
+            return this;
+        }
+
+        public TeamFeatures build() {
+            finishTeam();
+            return new TeamFeatures(this);
+        }
+
+        private void finishTeam() {
+            if (members > 0) {
+                birthYears[size - 1] /= members;
+                members = 0;
+            }
+        }
+
+        private void grow() {
+            if (size < teamIds.length) {
+                return;
+            }
+
+            int capacity = teamIds.length * 2;
+            teamIds = Arrays.copyOf(teamIds, capacity);
+            genders = Arrays.copyOf(genders, capacity);
+            headcounts = Arrays.copyOf(headcounts, capacity);
+            birthYears = Arrays.copyOf(birthYears, capacity);
+            colleges = Arrays.copyOf(colleges, capacity);
+        }
+    }
+
+    private static class Scorer extends RecursiveTask<TopTeams> {
+
+        private final TeamFeatures candidates;
+        private final TeamFeatures query;
+        private final int from;
+        private final int to;
+        private final int limit;
+
+        private Scorer(TeamFeatures candidates, TeamFeatures query, int from, int to,
+            int limit) {
+            this.candidates = candidates;
+            this.query = query;
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+        }
+
+        @Override
+        protected TopTeams compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                TopTeams top = new TopTeams(limit);
+                for (int i = from; i < to; i++) {
+                    if (candidates.isCandidate(i, query)) {
+                        top.offer(i, candidates.score(i, query));
+                    }
+                }
+                return top;
+            }
+
+            int middle = (from + to) >>> 1;
+            Scorer left = new Scorer(candidates, query, from, middle, limit);
+            left.fork();
+            TopTeams right = new Scorer(candidates, query, middle, to, limit).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    private static class TopTeams {
+
+        private final int[] indexes;
+        private final float[] scores;
+        private int size;
+
+        private TopTeams(int limit) {
+            this.indexes = new int[limit];
+            this.scores = new float[limit];
+        }
+
+        private void offer(int index, float score) {
+            if (size < indexes.length) {
+                indexes[size] = index;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                indexes[0] = index;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        private TopTeams merge(TopTeams other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.indexes[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        private long[] teamIds(TeamFeatures candidates) {
+            long[] teamIds = new long[size];
+            for (int i = size - 1; i >= 0; i--) {
+                teamIds[i] = candidates.teamIds[indexes[0]];
+                swap(0, size - 1);
+                size--;
+                siftDown(0);
+            }
+            return teamIds;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= scores[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && scores[right] < scores[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int index = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = index;
+            float score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.colleful.server.team.service;
+
+import com.colleful.server.global.cache.CacheNames;
+import com.colleful.server.global.expiry.ExpirySweeper;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.repository.TeamRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@ConditionalOnProperty(name = "expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class TeamIdleExpiry {
+
+    private final TeamRepository teamRepository;
+    private final CacheManager cacheManager;
+    private final ExpirySweeper idleTeams;
+
+    public TeamIdleExpiry(TeamRepository teamRepository, CacheManager cacheManager,
+        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+        @Value("${expiry.ready-team-idle-timeout:P14D}") Duration idleTimeout,
+        @Value("${expiry.batch-size:500}") int batchSize,
+        @Value("${expiry.batch-pause:PT0.05S}") Duration batchPause) {
+        this.teamRepository = teamRepository;
+        this.cacheManager = cacheManager;
+        this.idleTeams = new ExpirySweeper("ready-team", idleTimeout, batchSize, batchPause,
+            since -> teamRepository.streamUpdatedAtByStatusSince(TeamStatus.READY, since),
+            this::makePending, transactionManager, meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${expiry.poll-interval:PT1M}",
+        initialDelayString = "${expiry.poll-interval:PT1M}")
+    public void poll() {
+        idleTeams.poll();
+    }
+
+    @Scheduled(fixedDelayString = "${expiry.sweep-interval:PT10S}")
+    public void sweep() {
+        idleTeams.sweep();
+    }
+
+    private int makePending(List<Long> teamIds, LocalDateTime cutoff) {
+        int updated = teamRepository.updateAllIdle(teamIds, TeamStatus.READY, TeamStatus.PENDING,
+            cutoff, LocalDateTime.now());
+
+        if (updated == 0) {
+            return 0;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(teamIds);
+            return updated;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(teamIds);
+                }
+            });
+
+        return updated;
+    }
+
+    private void evict(List<Long> teamIds) {
+        Cache teams = cacheManager.getCache(CacheNames.TEAMS);
+        Cache readyTeams = cacheManager.getCache(CacheNames.READY_TEAMS);
+
+        if (teams != null) {
+            teamIds.forEach(teams::evict);
+        }
+
+        if (readyTeams != null) {
+            readyTeams.clear();
+        }
+    }
+}
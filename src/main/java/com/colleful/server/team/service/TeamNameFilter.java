@@ -0,0 +1,45 @@
+package com.colleful.server.team.service;
+
+import com.colleful.server.global.bloom.KeyFilter;
+import com.colleful.server.team.repository.TeamRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class TeamNameFilter {
+
+    private final TeamRepository teamRepository;
+    private final KeyFilter teamNames;
+    private final TransactionTemplate transactionTemplate;
+
+    public TeamNameFilter(TeamRepository teamRepository,
+        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+        @Value("${bloom-filter.fpp:0.01}") double fpp) {
+        this.teamRepository = teamRepository;
+        this.teamNames = new KeyFilter("team-name", teamRepository::count,
+            teamRepository::streamAllTeamNames, fpp, meterRegistry);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${bloom-filter.rebuild-interval:PT10M}",
+        initialDelayString = "${bloom-filter.rebuild-interval:PT10M}")
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> teamNames.rebuild());
+    }
+
+    public boolean isTaken(String teamName) {
+        return teamNames.isTaken(teamName, teamRepository::existsByTeamName);
+    }
+
+    public void add(String teamName) {
+        teamNames.add(teamName);
+    }
+}
@@ -0,0 +1,54 @@
+package com.colleful.server.team.service;
+
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.repository.TeamRepository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class TeamRecommender {
+
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate transactionTemplate;
+    private volatile TeamFeatures candidates = TeamFeatures.builder().build();
+
+    public TeamRecommender(TeamRepository teamRepository,
+        PlatformTransactionManager transactionManager) {
+        this.teamRepository = teamRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${recommendation.rebuild-interval:PT1M}",
+        initialDelayString = "${recommendation.rebuild-interval:PT1M}")
+    public void rebuild() {
+        TeamFeatures.Builder builder = TeamFeatures.builder();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows =
+                teamRepository.streamMemberFeaturesByStatus(TeamStatus.READY)) {
+                rows.forEach(builder::add);
+            }
+        });
+
+        candidates = builder.build();
+    }
+
+    public List<Long> recommend(Long teamId, int size) {
+        TeamFeatures current = candidates;
+        TeamFeatures.Builder builder = current.queryBuilder();
+        teamRepository.findMemberFeaturesByTeamId(teamId).forEach(builder::add);
+
+        return Arrays.stream(current.rank(builder.build(), size))
+            .boxed()
+            .collect(Collectors.toList());
+    }
+}
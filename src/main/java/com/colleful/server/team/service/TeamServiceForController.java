@@ -1,5 +1,6 @@
 package com.colleful.server.team.service;
 
+import com.colleful.server.global.dto.PageDto;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.team.domain.TeamStatus;
 import com.colleful.server.team.dto.TeamDto;
@@ -12,11 +13,23 @@ public interface TeamServiceForController {
 
     Long createTeam(Long leaderId, TeamDto.Request dto);
 
+    boolean isAvailableTeamName(String teamName);
+
     Team getTeam(Long teamId, Long userId);
 
-    Page<Team> getAllReadyTeams(Pageable pageable);
+    TeamDto.Response getTeamInfo(Long teamId, Long userId);
+
+    String getMembersVersion(Long teamId, Long userId);
+
+    PageDto.Response<TeamDto.Response> getAllReadyTeams(Pageable pageable);
+
+    PageDto.Response<TeamDto.Response> getUnseenReadyTeams(Long userId, Pageable pageable);
+
+    List<TeamDto.Response> getTrendingTeams(Long userId);
+
+    List<TeamDto.Response> getRecommendedTeams(Long userId, int size);
 
-    Page<Team> searchTeams(Pageable pageable, String teamName);
+    Page<Team> searchTeams(Long userId, Pageable pageable, String teamName);
 
     List<User> getMembers(Long teamId);
 
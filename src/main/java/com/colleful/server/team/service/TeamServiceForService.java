@@ -1,10 +1,22 @@
 package com.colleful.server.team.service;
 
 import com.colleful.server.team.domain.Team;
+import java.util.Collection;
+import java.util.List;
 
 public interface TeamServiceForService {
 
     Team getTeam(Long teamId);
 
+    List<Team> getTeams(Collection<Long> teamIds);
+
     Team getUserTeam(Long userId);
+
+    void lockForUpdate(Team first, Team second);
+
+    void lockForUpdate(Collection<Team> teams);
+
+    void recordMatchingRequest(Long senderId, Long receiverId);
+
+    void markSeen(Long teamId, Long seenTeamId);
 }
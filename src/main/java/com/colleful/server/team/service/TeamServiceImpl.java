@@ -1,16 +1,41 @@
 package com.colleful.server.team.service;
 
+import com.colleful.server.block.service.BlockList;
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.global.cache.CacheNames;
+import com.colleful.server.global.dto.PageDto;
 import com.colleful.server.team.domain.TeamStatus;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.team.dto.TeamDto;
 import com.colleful.server.team.repository.TeamRepository;
 import com.colleful.server.user.domain.User;
+import com.colleful.server.global.exception.AlreadyExistResourceException;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.InvalidRequestException;
 import com.colleful.server.global.exception.NotFoundResourceException;
+import com.colleful.server.global.web.EntityTag;
 import com.colleful.server.user.service.UserServiceForService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,11 +45,27 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TeamServiceImpl implements TeamServiceForController, TeamServiceForService {
 
+    private static final int MAX_RECOMMENDATIONS = 50;
+    private static final int MAX_RECOMMENDATION_SCAN = 1000;
+    private static final int SCAN_PAGE_SIZE = 50;
+    private static final int MAX_SCAN_PAGES = 20;
+
     private final TeamRepository teamRepository;
     private final UserServiceForService userService;
+    private final CacheManager cacheManager;
+    private final TeamNameFilter teamNameFilter;
+    private final TrendingTeams trendingTeams;
+    private final TeamRecommender teamRecommender;
+    private final SeenTeamsStore seenTeamsStore;
+    private final BlockedUsers blockedUsers;
+    private final EntityManager entityManager;
 
     @Override
     public Long createTeam(Long leaderId, TeamDto.Request dto) {
+        if (teamNameFilter.isTaken(dto.getTeamName())) {
+            throw new AlreadyExistResourceException("중복된 팀 이름입니다.");
+        }
+
         User leader = userService.getUser(leaderId);
         Team team = Team.builder()
             .teamName(dto.getTeamName())
@@ -35,7 +76,20 @@ public class TeamServiceImpl implements TeamServiceForController, TeamServiceFor
             .build();
 
         team.addMember(leader);
-        return teamRepository.save(team).getId();
+
+        try {
+            teamRepository.saveAndFlush(team);
+        } catch (DataIntegrityViolationException e) {
+            throw new AlreadyExistResourceException("중복된 팀 이름입니다.");
+        }
+
+        teamNameFilter.add(dto.getTeamName());
+        return team.getId();
+    }
+
+    @Override
+    public boolean isAvailableTeamName(String teamName) {
+        return !teamNameFilter.isTaken(teamName);
     }
 
     @Override
@@ -44,6 +98,11 @@ public class TeamServiceImpl implements TeamServiceForController, TeamServiceFor
             .orElseThrow(() -> new NotFoundResourceException("존재하지 않는 팀입니다."));
     }
 
+    @Override
+    public List<Team> getTeams(Collection<Long> teamIds) {
+        return teamRepository.findAllById(teamIds);
+    }
+
     @Override
     public Team getTeam(Long teamId, Long userId) {
         User user = userService.getUser(userId);
@@ -56,6 +115,40 @@ public class TeamServiceImpl implements TeamServiceForController, TeamServiceFor
         return team;
     }
 
+    @Override
+    public TeamDto.Response getTeamInfo(Long teamId, Long userId) {
+        Cache cache = cacheManager.getCache(CacheNames.TEAMS);
+        TeamDto.Response team = cache.get(teamId, TeamDto.Response.class);
+
+        if (team == null) {
+            team = new TeamDto.Response(getTeam(teamId));
+            cache.put(teamId, team);
+        }
+
+        User viewer = userService.getUser(userId);
+
+        if (!TeamStatus.READY.name().equals(team.getStatus()) && viewer.isNotMemberOf(teamId)) {
+            throw new ForbiddenBehaviorException("권한이 없습니다.");
+        }
+
+        if (viewer.hasTeam() && viewer.isNotMemberOf(teamId)) {
+            seenTeamsStore.markSeen(viewer.getTeamId(), teamId);
+        }
+
+        return team;
+    }
+
+    @Override
+    public String getMembersVersion(Long teamId, Long userId) {
+        if (getStatus(teamId) != TeamStatus.READY
+            && userService.getUser(userId).isNotMemberOf(teamId)) {
+            throw new ForbiddenBehaviorException("권한이 없습니다.");
+        }
+
+        return EntityTag.withYear(teamId, getUpdatedAt(teamId),
+            userService.getMembersUpdatedAt(teamId));
+    }
+
     @Override
     public Team getUserTeam(Long userId) {
         User user = userService.getUser(userId);
@@ -68,8 +161,95 @@ public class TeamServiceImpl implements TeamServiceForController, TeamServiceFor
     }
 
     @Override
-    public Page<Team> getAllReadyTeams(Pageable pageable) {
-        return teamRepository.findAllByStatusOrderByUpdatedAtDesc(pageable, TeamStatus.READY);
+    public void lockForUpdate(Team first, Team second) {
+        lockForUpdate(List.of(first, second));
+    }
+
+    @Override
+    public void lockForUpdate(Collection<Team> teams) {
+        teams.stream()
+            .sorted(Comparator.comparing(Team::getId))
+            .forEach(team -> entityManager.refresh(team, LockModeType.PESSIMISTIC_WRITE));
+    }
+
+    @Override
+    public PageDto.Response<TeamDto.Response> getAllReadyTeams(Pageable pageable) {
+        return getReadyTeamPage(pageable);
+    }
+
+    @Override
+    public PageDto.Response<TeamDto.Response> getUnseenReadyTeams(Long userId,
+        Pageable pageable) {
+        RoaringBitmap seen = getSeenTeams(userService.getUser(userId));
+        BlockList blocks = blockedUsers.get(userId);
+
+        if (seen.isEmpty() && blocks.isEmpty()) {
+            return getReadyTeamPage(pageable);
+        }
+
+        return new PageDto.Response<>(scanVisible(pageable,
+            pageNumber -> toPage(getReadyTeamPage(PageRequest.of(pageNumber, SCAN_PAGE_SIZE))),
+            team -> isHidden(seen, blocks, team.getId(), team.getLeaderId())));
+    }
+
+    @Override
+    public List<TeamDto.Response> getTrendingTeams(Long userId) {
+        List<TeamDto.Response> teams = trendingTeams.getTeams();
+        RoaringBitmap seen = getSeenTeams(userService.getUser(userId));
+        BlockList blocks = blockedUsers.get(userId);
+
+        if (seen.isEmpty() && blocks.isEmpty()) {
+            return teams;
+        }
+
+        return teams.stream()
+            .filter(team -> !isHidden(seen, blocks, team.getId(), team.getLeaderId()))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TeamDto.Response> getRecommendedTeams(Long userId, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("추천받을 팀 수는 1 이상이어야 합니다.");
+        }
+
+        Team team = getUserTeam(userId);
+        RoaringBitmap seen = seenTeamsStore.get(team.getId());
+        BlockList blocks = blockedUsers.get(userId);
+        int limit = Math.min(size, MAX_RECOMMENDATIONS);
+
+        for (int scan = limit; ; scan = Math.min(scan * 2, MAX_RECOMMENDATION_SCAN)) {
+            List<Long> ranked = teamRecommender.recommend(team.getId(), scan);
+            List<Long> teamIds = ranked.stream()
+                .filter(teamId -> !SeenTeamsStore.isSeen(seen, teamId))
+                .collect(Collectors.toList());
+            Map<Long, Team> readyTeams = teamRepository.findAllById(teamIds).stream()
+                .filter(readyTeam -> !readyTeam.isNotReady())
+                .filter(readyTeam -> !blocks.hidesTeam(readyTeam.getId(), readyTeam.getLeaderId()))
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+            List<TeamDto.Response> recommendations = teamIds.stream()
+                .map(readyTeams::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .map(TeamDto.Response::new)
+                .collect(Collectors.toList());
+
+            if (recommendations.size() == limit || ranked.size() < scan
+                || scan == MAX_RECOMMENDATION_SCAN) {
+                return recommendations;
+            }
+        }
+    }
+
+    @Override
+    public void recordMatchingRequest(Long senderId, Long receiverId) {
+        trendingTeams.record(receiverId);
+        seenTeamsStore.markSeen(senderId, receiverId);
+    }
+
+    @Override
+    public void markSeen(Long teamId, Long seenTeamId) {
+        seenTeamsStore.markSeen(teamId, seenTeamId);
     }
 
     @Override
@@ -78,10 +258,17 @@ public class TeamServiceImpl implements TeamServiceForController, TeamServiceFor
     }
 
     @Override
-    public Page<Team> searchTeams(Pageable pageable, String teamName) {
-        return teamRepository
-            .findAllByStatusAndTeamNameContainingOrderByUpdatedAtDesc(pageable,
-                TeamStatus.READY, teamName);
+    public Page<Team> searchTeams(Long userId, Pageable pageable, String teamName) {
+        BlockList blocks = blockedUsers.get(userId);
+
+        if (blocks.isEmpty()) {
+            return teamRepository
+                .findAllByStatusAndTeamNameContainingOrderByUpdatedAtDesc(pageable,
+                    TeamStatus.READY, teamName);
+        }
+
+        return teamRepository.findAllVisibleByStatusAndTeamNameLike(pageable, TeamStatus.READY,
+            containing(teamName), userId);
     }
 
     @Override
@@ -143,4 +330,75 @@ public class TeamServiceImpl implements TeamServiceForController, TeamServiceFor
         team.finishMatch();
         matchedTeam.finishMatch();
     }
+
+    private TeamStatus getStatus(Long teamId) {
+        return teamRepository.findStatusById(teamId)
+            .orElseThrow(() -> new NotFoundResourceException("존재하지 않는 팀입니다."));
+    }
+
+    private LocalDateTime getUpdatedAt(Long teamId) {
+        return teamRepository.findUpdatedAtById(teamId)
+            .orElseThrow(() -> new NotFoundResourceException("존재하지 않는 팀입니다."));
+    }
+
+    private RoaringBitmap getSeenTeams(User user) {
+        return user.hasTeam() ? seenTeamsStore.get(user.getTeamId()) : new RoaringBitmap();
+    }
+
+    private boolean isHidden(RoaringBitmap seen, BlockList blocks, Long teamId, Long leaderId) {
+        return SeenTeamsStore.isSeen(seen, teamId) || blocks.hidesTeam(teamId, leaderId);
+    }
+
+    private <T> Page<T> scanVisible(Pageable pageable, IntFunction<Page<T>> pages,
+        Predicate<T> hidden) {
+        List<T> content = new ArrayList<>(pageable.getPageSize());
+        long skip = pageable.getOffset();
+        long hiddenCount = 0;
+        Page<T> source;
+        int pageNumber = 0;
+
+        do {
+            source = pages.apply(pageNumber++);
+            for (T item : source.getContent()) {
+                if (hidden.test(item)) {
+                    hiddenCount++;
+                } else if (skip > 0) {
+                    skip--;
+                } else if (content.size() < pageable.getPageSize()) {
+                    content.add(item);
+                }
+            }
+        } while (content.size() < pageable.getPageSize() && pageNumber < source.getTotalPages()
+            && pageNumber < MAX_SCAN_PAGES);
+
+        long total = source.getTotalElements() - hiddenCount;
+        return new PageImpl<>(content, pageable,
+            Math.max(total, pageable.getOffset() + content.size()));
+    }
+
+    private String containing(String value) {
+        return "%" + value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private <T> Page<T> toPage(PageDto.Response<T> page) {
+        return new PageImpl<>(page.getContent(),
+            PageRequest.of(page.getPageNumber(), page.getPageSize()), page.getTotalElements());
+    }
+
+    @SuppressWarnings("unchecked")
+    private PageDto.Response<TeamDto.Response> getReadyTeamPage(Pageable pageable) {
+        Cache cache = cacheManager.getCache(CacheNames.READY_TEAMS);
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":"
+            + pageable.getSort();
+        PageDto.Response<TeamDto.Response> page = cache.get(key, PageDto.Response.class);
+
+        if (page == null) {
+            page = new PageDto.Response<>(teamRepository
+                .findAllByStatusOrderByUpdatedAtDesc(pageable, TeamStatus.READY)
+                .map(TeamDto.Response::new));
+            cache.put(key, page);
+        }
+
+        return page;
+    }
 }
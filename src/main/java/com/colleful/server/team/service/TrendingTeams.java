@@ -0,0 +1,181 @@
+package com.colleful.server.team.service;
+
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.dto.TeamDto;
+import com.colleful.server.team.repository.TeamRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrendingTeams {
+
+    private static final double REBASE_EXPONENT = 500;
+    private static final double MIN_SCORE = 0.01;
+    private static final int CANDIDATE_FACTOR = 4;
+
+    private final TeamRepository teamRepository;
+    private final double decayPerMilli;
+    private final int size;
+    private final LongSupplier clock;
+    private final AtomicReference<Counters> counters;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile List<TeamDto.Response> teams = Collections.emptyList();
+
+    @Autowired
+    public TrendingTeams(TeamRepository teamRepository,
+        @Value("${trending.half-life:PT6H}") Duration halfLife,
+        @Value("${trending.size:20}") int size) {
+        this(teamRepository, halfLife, size, System::currentTimeMillis);
+    }
+
+    TrendingTeams(TeamRepository teamRepository, Duration halfLife, int size,
+        LongSupplier clock) {
+        this.teamRepository = teamRepository;
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.size = size;
+        this.clock = clock;
+        this.counters = new AtomicReference<>(new Counters(clock.getAsLong()));
+    }
+
+    public void record(Long teamId) {
+        lock.readLock().lock();
+
+        try {
+            Counters current = counters.get();
+            current.scores.computeIfAbsent(teamId, id -> new DoubleAdder())
+                .add(Math.exp(decayPerMilli * (clock.getAsLong() - current.landmark)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trending.refresh-interval:PT10S}")
+    public void refresh() {
+        long now = clock.getAsLong();
+        Counters current = rebaseIfNeeded(now);
+        double decay = Math.exp(-decayPerMilli * (now - current.landmark));
+        int candidates = size * CANDIDATE_FACTOR;
+        PriorityQueue<TeamScore> heap =
+            new PriorityQueue<>(Comparator.comparingDouble(TeamScore::getScore));
+        List<Long> stale = new ArrayList<>();
+
+        current.scores.forEach((teamId, adder) -> {
+            double score = adder.sum() * decay;
+
+            if (score < MIN_SCORE) {
+                stale.add(teamId);
+                return;
+            }
+
+            heap.offer(new TeamScore(teamId, score));
+            if (heap.size() > candidates) {
+                heap.poll();
+            }
+        });
+
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().getTeamId());
+        }
+        Collections.reverse(ranked);
+        prune(current, stale, decay);
+
+        Map<Long, Team> readyTeams = teamRepository.findAllById(ranked).stream()
+            .filter(team -> !team.isNotReady())
+            .collect(Collectors.toMap(Team::getId, Function.identity()));
+        teams = ranked.stream()
+            .map(readyTeams::get)
+            .filter(Objects::nonNull)
+            .limit(size)
+            .map(TeamDto.Response::new)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<TeamDto.Response> getTeams() {
+        return teams;
+    }
+
+    private Counters rebaseIfNeeded(long now) {
+        Counters current = counters.get();
+
+        if (decayPerMilli * (now - current.landmark) < REBASE_EXPONENT) {
+            return current;
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            Counters next = new Counters(now);
+            double decay = Math.exp(-decayPerMilli * (now - current.landmark));
+            current.scores.forEach((teamId, adder) -> next.scores
+                .computeIfAbsent(teamId, id -> new DoubleAdder())
+                .add(adder.sum() * decay));
+            counters.set(next);
+            return next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void prune(Counters current, List<Long> teamIds, double decay) {
+        if (teamIds.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            teamIds.forEach(teamId -> current.scores.computeIfPresent(teamId,
+                (id, adder) -> adder.sum() * decay < MIN_SCORE ? null : adder));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static class Counters {
+
+        private final long landmark;
+        private final Map<Long, DoubleAdder> scores = new ConcurrentHashMap<>();
+
+        private Counters(long landmark) {
+            this.landmark = landmark;
+        }
+    }
+
+    private static class TeamScore {
+
+        private final Long teamId;
+        private final double score;
+
+        private TeamScore(Long teamId, double score) {
+            this.teamId = teamId;
+            this.score = score;
+        }
+
+        private Long getTeamId() {
+            return teamId;
+        }
+
+        private double getScore() {
+            return score;
+        }
+    }
+}
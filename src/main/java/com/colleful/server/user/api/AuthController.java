@@ -1,5 +1,6 @@
 package com.colleful.server.user.api;
 
+import com.colleful.server.global.dto.AvailabilityDto;
 import com.colleful.server.user.dto.UserDto.EmailRequest;
 import com.colleful.server.user.dto.UserDto.LoginRequest;
 import com.colleful.server.user.dto.UserDto.Request;
@@ -9,10 +10,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -55,6 +58,11 @@ public class AuthController {
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/nickname-availability")
+    public AvailabilityDto.Response checkNickname(@RequestParam String nickname) {
+        return new AvailabilityDto.Response(authService.isAvailableNickname(nickname));
+    }
+
     @PatchMapping("/check")
     public ResponseEntity<?> check(@RequestBody EmailRequest request) {
         authService.checkEmail(request);
@@ -5,11 +5,15 @@ import com.colleful.server.user.domain.User;
 import com.colleful.server.user.dto.UserDto;
 import com.colleful.server.user.service.UserServiceForController;
 import com.colleful.server.global.security.JwtProvider;
+import com.colleful.server.global.web.JsonStreamWriter;
+import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/users")
@@ -28,9 +33,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final CacheControl PROFILE_CACHE_CONTROL =
+        CacheControl.maxAge(30, TimeUnit.SECONDS).cachePrivate();
+
     private final UserServiceForController userService;
     private final JwtProvider provider;
     private final PasswordEncoder passwordEncoder;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @GetMapping
     public UserDto.Response getMyInfo(@RequestHeader(JwtProperties.HEADER) String token) {
@@ -39,16 +48,31 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public UserDto.Response getUserInfo(@PathVariable Long id) {
-        User user = userService.getUser(id);
-        return new UserDto.Response(user);
+    public ResponseEntity<UserDto.Response> getUserInfo(@PathVariable Long id,
+        WebRequest request) {
+        String eTag = userService.getUserVersion(id);
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(PROFILE_CACHE_CONTROL)
+                .build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(PROFILE_CACHE_CONTROL)
+            .body(userService.getUserInfo(id));
     }
 
     @GetMapping("/nickname/{nickname}")
-    public List<UserDto.Response> searchUserByNickname(@PathVariable String nickname) {
-        List<User> users = userService
-            .getUserByNickname(URLDecoder.decode(nickname, StandardCharsets.UTF_8));
-        return users.stream().map(UserDto.Response::new).collect(Collectors.toList());
+    public void searchUserByNickname(@RequestHeader(JwtProperties.HEADER) String token,
+        @PathVariable String nickname, HttpServletResponse response) throws IOException {
+        Long userId = provider.getId(token);
+        jsonStreamWriter.<UserDto.Summary>writeArray(response, writer ->
+            userService.forEachUserByNickname(userId,
+                URLDecoder.decode(nickname, StandardCharsets.UTF_8),
+                user -> writer.accept(new UserDto.Summary(user))));
     }
 
     @PatchMapping
@@ -1,31 +1,46 @@
 package com.colleful.server.user.domain;
 
+import com.colleful.server.global.cache.CacheEvictionListener;
 import com.colleful.server.department.domain.Department;
 import com.colleful.server.user.dto.UserDto;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.time.YearClock;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Entity
+@EntityListeners(CacheEvictionListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = @Index(name = "idx_user_team_id", columnList = "teamId"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -33,9 +48,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = "id_generator", pkColumnName = "name",
+        valueColumnName = "next_val", pkColumnValue = "user", allocationSize = 50)
     private Long id;
 
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -52,10 +72,13 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Gender gender;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
     private Department department;
 
+    @Column(name = "department_id", insertable = false, updatable = false)
+    private Long departmentId;
+
     @Column(nullable = false)
     private String selfIntroduction;
 
@@ -63,8 +86,13 @@ public class User implements UserDetails {
     private Long teamId;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<String> roles;
 
+    public Integer getAge() {
+        return YearClock.currentYear() - this.birthYear + 1;
+    }
+
     public void changeInfo(UserDto.Request info) {
         this.nickname = info.getNickname() != null ? info.getNickname() : this.nickname;
         this.selfIntroduction =
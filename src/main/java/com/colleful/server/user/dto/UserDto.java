@@ -1,7 +1,8 @@
 package com.colleful.server.user.dto;
 
+import com.colleful.server.department.domain.DepartmentNames;
 import com.colleful.server.user.domain.User;
-import java.util.Calendar;
+import java.io.Serializable;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -21,7 +22,7 @@ public class UserDto {
     }
 
     @Getter
-    public static class Response {
+    public static class Response implements Serializable {
 
         private final Long id;
         private final String email;
@@ -35,13 +36,29 @@ public class UserDto {
             this.id = user.getId();
             this.email = user.getEmail();
             this.nickname = user.getNickname();
-            this.age = Calendar.getInstance().get(Calendar.YEAR) - user.getBirthYear() + 1;
+            this.age = user.getAge();
             this.gender = user.getGender().name();
-            this.department = user.getDepartment().getDepartmentName();
+            this.department = DepartmentNames.of(user.getDepartmentId(), user.getDepartment());
             this.selfIntroduction = user.getSelfIntroduction();
         }
     }
 
+    @Getter
+    public static class Summary implements Serializable {
+
+        private final Long id;
+        private final String nickname;
+        private final Integer age;
+        private final String gender;
+
+        public Summary(User user) {
+            this.id = user.getId();
+            this.nickname = user.getNickname();
+            this.age = user.getAge();
+            this.gender = user.getGender().name();
+        }
+    }
+
     @Getter
     public static class LoginRequest {
 
@@ -0,0 +1,32 @@
+package com.colleful.server.user.repository;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class UserReactiveRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Boolean> existsByIdAndTeamId(Long id, Long teamId) {
+        return databaseClient
+            .execute("select count(*) from user where id = :id and team_id = :teamId")
+            .bind("id", id)
+            .bind("teamId", teamId)
+            .map((row, metadata) -> row.get(0, Long.class) > 0)
+            .one();
+    }
+
+    public Mono<Optional<Long>> findTeamIdById(Long id) {
+        return databaseClient.execute("select team_id from user where id = :id")
+            .bind("id", id)
+            .map((row, metadata) -> Optional.ofNullable(row.get("team_id", Long.class)))
+            .one();
+    }
+}
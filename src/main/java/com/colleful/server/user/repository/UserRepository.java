@@ -1,11 +1,17 @@
 package com.colleful.server.user.repository;
 
 import com.colleful.server.user.domain.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,13 +19,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Page<User> findAll(Pageable pageable);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<User> findByEmail(String email);
 
-    List<User> findByNicknameContaining(String nickname);
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "100"))
+    Stream<User> streamByNicknameContaining(String nickname);
 
     List<User> findAllByTeamId(Long teamId);
 
     boolean existsByNickname(String nickname);
 
     boolean existsByEmail(String email);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select u.email from User u")
+    Stream<String> streamAllEmails();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select u.nickname from User u")
+    Stream<String> streamAllNicknames();
+
+    @Query("select u.updatedAt from User u where u.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("select max(u.updatedAt) from User u where u.teamId = :teamId")
+    Optional<LocalDateTime> findLastUpdatedAtByTeamId(@Param("teamId") Long teamId);
 }
@@ -15,4 +15,6 @@ public interface AuthService {
     void changePassword(UserDto.LoginRequest dto);
 
     void checkEmail(UserDto.EmailRequest dto);
+
+    boolean isAvailableNickname(String nickname);
 }
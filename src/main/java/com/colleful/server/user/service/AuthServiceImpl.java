@@ -16,6 +16,7 @@ import com.colleful.server.global.security.JwtProvider;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -33,13 +34,14 @@ public class AuthServiceImpl implements AuthService {
     private final JwtProvider provider;
     private final PasswordEncoder passwordEncoder;
     private final JavaMailSender javaMailSender;
+    private final UserKeyFilter userKeyFilter;
 
     @Value("spring.mail.username")
     private String fromAddress;
 
     @Override
     public Long join(UserDto.Request dto) {
-        if (userRepository.existsByEmail(dto.getEmail())) {
+        if (userKeyFilter.isEmailTaken(dto.getEmail())) {
             throw new AlreadyExistResourceException("중복된 이메일입니다.");
         }
 
@@ -55,7 +57,15 @@ public class AuthServiceImpl implements AuthService {
             .selfIntroduction(dto.getSelfIntroduction())
             .roles(Collections.singletonList("ROLE_USER"))
             .build();
-        userRepository.save(user);
+
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new AlreadyExistResourceException("중복된 이메일 또는 닉네임입니다.");
+        }
+
+        userKeyFilter.addEmail(user.getEmail());
+        userKeyFilter.addNickname(user.getNickname());
 
         return user.getId();
     }
@@ -74,7 +84,7 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void sendEmailForRegistration(String email) {
-        if (userRepository.existsByEmail(email)) {
+        if (userKeyFilter.isEmailTaken(email)) {
             throw new AlreadyExistResourceException("이미 가입된 유저입니다.");
         }
 
@@ -121,6 +131,11 @@ public class AuthServiceImpl implements AuthService {
         emailVerificationRepository.deleteById(emailVerification.getId());
     }
 
+    @Override
+    public boolean isAvailableNickname(String nickname) {
+        return !userKeyFilter.isNicknameTaken(nickname);
+    }
+
     private EmailVerification getEmailVerification(String email) {
         return emailVerificationRepository.findByEmail(email)
             .orElseThrow(() -> new NotVerifiedEmailException("인증되지 않은 이메일입니다."));
@@ -0,0 +1,57 @@
+package com.colleful.server.user.service;
+
+import com.colleful.server.global.bloom.KeyFilter;
+import com.colleful.server.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class UserKeyFilter {
+
+    private final UserRepository userRepository;
+    private final KeyFilter emails;
+    private final KeyFilter nicknames;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserKeyFilter(UserRepository userRepository,
+        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+        @Value("${bloom-filter.fpp:0.01}") double fpp) {
+        this.userRepository = userRepository;
+        this.emails = new KeyFilter("email", userRepository::count,
+            userRepository::streamAllEmails, fpp, meterRegistry);
+        this.nicknames = new KeyFilter("nickname", userRepository::count,
+            userRepository::streamAllNicknames, fpp, meterRegistry);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${bloom-filter.rebuild-interval:PT10M}",
+        initialDelayString = "${bloom-filter.rebuild-interval:PT10M}")
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> emails.rebuild());
+        transactionTemplate.executeWithoutResult(status -> nicknames.rebuild());
+    }
+
+    public boolean isEmailTaken(String email) {
+        return emails.isTaken(email, userRepository::existsByEmail);
+    }
+
+    public boolean isNicknameTaken(String nickname) {
+        return nicknames.isTaken(nickname, userRepository::existsByNickname);
+    }
+
+    public void addEmail(String email) {
+        emails.add(email);
+    }
+
+    public void addNickname(String nickname) {
+        nicknames.add(nickname);
+    }
+}
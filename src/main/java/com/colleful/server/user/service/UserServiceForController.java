@@ -2,13 +2,17 @@ package com.colleful.server.user.service;
 
 import com.colleful.server.user.domain.User;
 import com.colleful.server.user.dto.UserDto;
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserServiceForController {
 
     User getUser(Long userId);
 
-    List<User> getUserByNickname(String nickname);
+    UserDto.Response getUserInfo(Long userId);
+
+    String getUserVersion(Long userId);
+
+    void forEachUserByNickname(Long userId, String nickname, Consumer<User> action);
 
     void changeUserInfo(Long userId, UserDto.Request info);
 
@@ -1,11 +1,17 @@
 package com.colleful.server.user.service;
 
 import com.colleful.server.user.domain.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface UserServiceForService {
 
     User getUser(Long userId);
 
+    List<User> getUsers(Collection<Long> userIds);
+
     List<User> getMembers(Long teamId);
+
+    LocalDateTime getMembersUpdatedAt(Long teamId);
 }
@@ -1,13 +1,25 @@
 package com.colleful.server.user.service;
 
+import com.colleful.server.block.service.BlockList;
+import com.colleful.server.block.service.BlockedUsers;
 import com.colleful.server.user.repository.UserRepository;
 import com.colleful.server.user.domain.User;
 import com.colleful.server.user.dto.UserDto;
+import com.colleful.server.global.exception.AlreadyExistResourceException;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.cache.CacheNames;
 import com.colleful.server.global.exception.NotFoundResourceException;
+import com.colleful.server.global.web.EntityTag;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -21,6 +33,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserServiceForController, UserServiceForService, UserDetailsService {
 
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final UserKeyFilter userKeyFilter;
+    private final BlockedUsers blockedUsers;
 
     @Override
     public User getUser(Long userId) {
@@ -29,8 +44,35 @@ public class UserServiceImpl implements UserServiceForController, UserServiceFor
     }
 
     @Override
-    public List<User> getUserByNickname(String nickname) {
-        return userRepository.findByNicknameContaining(nickname);
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#userId")
+    public UserDto.Response getUserInfo(Long userId) {
+        return new UserDto.Response(getUser(userId));
+    }
+
+    @Override
+    public String getUserVersion(Long userId) {
+        LocalDateTime updatedAt = userRepository.findUpdatedAtById(userId)
+            .orElseThrow(() -> new NotFoundResourceException("가입되지 않은 유저입니다."));
+        return EntityTag.withYear(userId, updatedAt);
+    }
+
+    @Override
+    public List<User> getUsers(Collection<Long> userIds) {
+        return userRepository.findAllById(userIds);
+    }
+
+    @Override
+    public void forEachUserByNickname(Long userId, String nickname, Consumer<User> action) {
+        BlockList blocks = blockedUsers.get(userId);
+
+        try (Stream<User> users = userRepository.streamByNicknameContaining(nickname)) {
+            users.forEach(user -> {
+                if (!blocks.containsUser(user.getId())) {
+                    action.accept(user);
+                }
+                entityManager.detach(user);
+            });
+        }
     }
 
     @Override
@@ -38,15 +80,25 @@ public class UserServiceImpl implements UserServiceForController, UserServiceFor
         return userRepository.findAllByTeamId(teamId);
     }
 
+    @Override
+    public LocalDateTime getMembersUpdatedAt(Long teamId) {
+        return userRepository.findLastUpdatedAtByTeamId(teamId).orElse(null);
+    }
+
     @Override
     public void changeUserInfo(Long userId, UserDto.Request info) {
         User user = getUser(userId);
 
-        if (userRepository.existsByNickname(info.getNickname())) {
+        if (info.getNickname() != null && userKeyFilter.isNicknameTaken(info.getNickname())) {
             throw new ForbiddenBehaviorException("중복된 닉네임입니다.");
         }
 
         user.changeInfo(info);
+
+        if (info.getNickname() != null) {
+            flushNickname();
+            userKeyFilter.addNickname(info.getNickname());
+        }
     }
 
     @Override
@@ -70,4 +122,12 @@ public class UserServiceImpl implements UserServiceForController, UserServiceFor
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByEmail(username).orElseThrow(RuntimeException::new);
     }
+
+    private void flushNickname() {
+        try {
+            userRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new AlreadyExistResourceException("중복된 닉네임입니다.");
+        }
+    }
 }
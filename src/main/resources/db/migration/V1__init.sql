@@ -0,0 +1,71 @@
+create table department (
+    id bigint not null auto_increment,
+    college_name varchar(255) not null,
+    department_name varchar(255) not null,
+    primary key (id)
+);
+
+create table user (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    nickname varchar(255) not null,
+    birth_year integer not null,
+    gender varchar(255) not null,
+    department_id bigint not null,
+    self_introduction varchar(255) not null,
+    team_id bigint,
+    primary key (id),
+    constraint uk_user_email unique (email),
+    constraint uk_user_nickname unique (nickname),
+    constraint fk_user_department foreign key (department_id) references department (id)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    roles varchar(255),
+    constraint fk_user_roles_user foreign key (user_id) references user (id)
+);
+
+create table team (
+    id bigint not null auto_increment,
+    updated_at datetime,
+    team_name varchar(255) not null,
+    gender varchar(255) not null,
+    status varchar(255) not null,
+    headcount integer not null,
+    leader_id bigint not null,
+    matched_team_id bigint,
+    primary key (id),
+    constraint uk_team_team_name unique (team_name)
+);
+
+create table invitation (
+    id bigint not null auto_increment,
+    created_at datetime,
+    team_id bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    constraint fk_invitation_team foreign key (team_id) references team (id) on delete cascade,
+    constraint fk_invitation_user foreign key (user_id) references user (id) on delete cascade
+);
+
+create table matching_request (
+    id bigint not null auto_increment,
+    created_at datetime,
+    sender_id bigint not null,
+    receiver_id bigint not null,
+    primary key (id),
+    constraint fk_matching_request_sender foreign key (sender_id) references team (id) on delete cascade,
+    constraint fk_matching_request_receiver foreign key (receiver_id) references team (id) on delete cascade
+);
+
+create table email_verification (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    code integer not null,
+    is_checked bit not null,
+    updated_at datetime,
+    primary key (id),
+    constraint uk_email_verification_email unique (email)
+);
@@ -0,0 +1,13 @@
+create index idx_user_team_id on user (team_id);
+
+create index idx_team_status_updated_at on team (status, updated_at);
+
+create index idx_invitation_user_id on invitation (user_id);
+delete from invitation where id not in (
+    select id from (select min(id) as id from invitation group by team_id, user_id) as kept);
+alter table invitation add constraint uk_invitation_team_id_user_id unique (team_id, user_id);
+
+create index idx_matching_request_receiver_id on matching_request (receiver_id);
+delete from matching_request where id not in (
+    select id from (select min(id) as id from matching_request group by sender_id, receiver_id) as kept);
+alter table matching_request add constraint uk_matching_request_sender_id_receiver_id unique (sender_id, receiver_id);
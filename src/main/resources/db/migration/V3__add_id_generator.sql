@@ -0,0 +1,11 @@
+create table id_generator (
+    name varchar(64) not null,
+    next_val bigint not null,
+    primary key (name)
+);
+
+insert into id_generator (name, next_val)
+select 'invitation', coalesce(max(id), 0) + 1 from invitation;
+
+insert into id_generator (name, next_val)
+select 'matching_request', coalesce(max(id), 0) + 1 from matching_request;
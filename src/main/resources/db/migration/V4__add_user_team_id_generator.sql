@@ -0,0 +1,8 @@
+insert into id_generator (name, next_val)
+select 'user', coalesce(max(id), 0) + 1 from user;
+
+insert into id_generator (name, next_val)
+select 'team', coalesce(max(id), 0) + 1 from team;
+
+insert into id_generator (name, next_val)
+select 'email_verification', coalesce(max(id), 0) + 1 from email_verification;
@@ -0,0 +1,7 @@
+alter table team modify column updated_at datetime(6);
+
+update team set updated_at = current_timestamp(6) where updated_at is null;
+
+alter table user add column updated_at datetime(6);
+
+update user set updated_at = current_timestamp(6);
@@ -0,0 +1,8 @@
+create table seen_teams (
+    team_id bigint not null,
+    bitmap mediumblob not null,
+    version bigint not null,
+    updated_at datetime(6),
+    primary key (team_id),
+    constraint fk_seen_teams_team foreign key (team_id) references team (id) on delete cascade
+);
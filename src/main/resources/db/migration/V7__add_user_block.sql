@@ -0,0 +1,14 @@
+create table user_block (
+    id bigint not null,
+    created_at datetime(6),
+    blocker_id bigint not null,
+    blocked_id bigint not null,
+    primary key (id),
+    constraint uk_user_block_blocker_id_blocked_id unique (blocker_id, blocked_id),
+    constraint fk_user_block_blocker foreign key (blocker_id) references user (id) on delete cascade,
+    constraint fk_user_block_blocked foreign key (blocked_id) references user (id) on delete cascade
+);
+
+create index idx_user_block_blocked_id on user_block (blocked_id);
+
+insert into id_generator (name, next_val) values ('user_block', 1);
@@ -0,0 +1,3 @@
+create index idx_invitation_created_at on invitation (created_at);
+
+create index idx_matching_request_created_at on matching_request (created_at);
@@ -0,0 +1,191 @@
+package com.colleful.server.nativeimage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class NativeSmokeTest {
+
+    private static final String EMAIL = "native@jbnu.ac.kr";
+    private static final String PASSWORD = "password";
+    private static final long STARTUP_BUDGET_MILLIS =
+        Long.getLong("native.startup-budget-millis", 1_000);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Server database;
+    private Process server;
+    private int port;
+    private long startupMillis;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        database = Server.createTcpServer("-tcpPort", String.valueOf(freePort()), "-ifNotExists")
+            .start();
+        String url = "jdbc:h2:tcp://localhost:" + database.getPort()
+            + "/mem:native;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.update("insert into department (id, college_name, department_name) "
+            + "values (1, '공과대학', '컴퓨터공학부')");
+        jdbcTemplate.update("insert into email_verification (id, email, code, is_checked) "
+            + "values (1, ?, 1234, true)", EMAIL);
+
+        port = freePort();
+        long start = System.nanoTime();
+        server = new ProcessBuilder(System.getProperty("native.executable"),
+            "-Dhibernate.bytecode.provider=none",
+            "--spring.profiles.active=native",
+            "--server.port=" + port,
+            "--management.server.port=-1",
+            "--spring.datasource.url=" + url,
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.jpa.database=h2",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+            "--monitoring.sql.sample-rate=0",
+            "--jwt.secret=native-smoke")
+            .inheritIO()
+            .start();
+        awaitReady();
+        startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    @AfterAll
+    public void tearDown() throws InterruptedException {
+        if (server != null) {
+            server.destroy();
+            server.waitFor(10, TimeUnit.SECONDS);
+        }
+        if (database != null) {
+            database.stop();
+        }
+    }
+
+    @Test
+    public void 네이티브_실행_파일_API_호출() throws Exception {
+        System.out.printf("native startup took %dms%n", startupMillis);
+        assertThat(startupMillis).isLessThan(STARTUP_BUDGET_MILLIS);
+
+        assertThat(get("/auth/nickname-availability?nickname=native", null).body())
+            .contains("\"available\":true");
+        assertThat(send("POST", "/auth/join", null, Map.of("email", EMAIL, "password", PASSWORD,
+            "nickname", "native", "birthYear", 2000, "gender", "MALE", "departmentId", 1,
+            "selfIntroduction", "안녕하세요")).statusCode()).isEqualTo(201);
+
+        HttpResponse<String> login = send("POST", "/auth/login", null,
+            Map.of("email", EMAIL, "password", PASSWORD));
+        assertThat(login.statusCode()).isEqualTo(200);
+        String token = login.headers().firstValue("Authorization").orElseThrow();
+
+        JsonNode me = json(get("/api/users", token));
+        assertThat(me.get("nickname").asText()).isEqualTo("native");
+        assertThat(me.get("department").asText()).isEqualTo("컴퓨터공학부");
+
+        HttpResponse<String> user = get("/api/users/" + me.get("id").asLong(), token);
+        String eTag = user.headers().firstValue("ETag").orElseThrow();
+        assertThat(client.send(request("/api/users/" + me.get("id").asLong(), token)
+            .header("If-None-Match", eTag)
+            .GET()
+            .build(), HttpResponse.BodyHandlers.ofString()).statusCode()).isEqualTo(304);
+        assertThat(send("PATCH", "/api/users", token, Map.of("selfIntroduction", "반갑습니다"))
+            .statusCode()).isEqualTo(200);
+        assertThat(json(get("/api/users/nickname/nat", token)).size()).isEqualTo(1);
+
+        HttpResponse<String> created = send("POST", "/api/teams", token,
+            Map.of("teamName", "native-team"));
+        assertThat(created.statusCode()).isEqualTo(201);
+        String team = created.headers().firstValue("Location").orElseThrow();
+        assertThat(send("PATCH", team, token, Map.of("status", "READY")).statusCode())
+            .isEqualTo(200);
+        assertThat(json(get(team, token)).get("status").asText()).isEqualTo("READY");
+        assertThat(json(get(team + "/members", token)).size()).isEqualTo(1);
+        assertThat(json(get("/api/teams", token)).get("content").size()).isEqualTo(1);
+        assertThat(json(get("/api/teams/team-name/native", token)).get("content").size())
+            .isEqualTo(1);
+        assertThat(get("/api/teams/team-name-availability?team-name=native-team", token).body())
+            .contains("\"available\":false");
+
+        assertThat(json(get("/api/invitations/sent", token)).size()).isZero();
+        assertThat(json(get("/api/invitations/received", token)).size()).isZero();
+        assertThat(json(get("/api/matching/sent", token)).size()).isZero();
+        assertThat(json(get("/api/matching/received", token)).size()).isZero();
+        assertThat(json(get("/api/departments", null)).size()).isEqualTo(1);
+        assertThat(json(get("/api/departments/1", null)).get("departmentName").asText())
+            .isEqualTo("컴퓨터공학부");
+
+        HttpResponse<String> missing = get("/api/teams/999999", token);
+        assertThat(missing.statusCode()).isEqualTo(404);
+        assertThat(json(missing).get("code").asText()).isEqualTo("NOT_FOUND_RESOURCE");
+    }
+
+    private void awaitReady() throws InterruptedException, IOException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        while (System.nanoTime() < deadline) {
+            assertThat(server.isAlive()).isTrue();
+            try {
+                if (get("/api/departments", null).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                Thread.sleep(10);
+            }
+        }
+
+        throw new IllegalStateException("native executable did not start within 30s");
+    }
+
+    private HttpResponse<String> get(String path, String token)
+        throws IOException, InterruptedException {
+        return client.send(request(path, token).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> send(String method, String path, String token, Object body)
+        throws IOException, InterruptedException {
+        return client.send(request(path, token)
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(
+                objectMapper.writeValueAsBytes(body)))
+            .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+            .uri(URI.create("http://localhost:" + port + path));
+        return token == null ? builder : builder.header("Authorization", token);
+    }
+
+    private JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
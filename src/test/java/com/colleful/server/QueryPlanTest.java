@@ -0,0 +1,162 @@
+package com.colleful.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.colleful.server.invitation.repository.InvitationRepository;
+import com.colleful.server.matching.repository.MatchingRequestRepository;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.repository.TeamRepository;
+import com.colleful.server.user.domain.User;
+import com.colleful.server.user.repository.EmailVerificationRepository;
+import com.colleful.server.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.colleful.server.QueryPlanTest$SqlCaptor"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class QueryPlanTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private InvitationRepository invitationRepository;
+    @Autowired
+    private MatchingRequestRepository matchingRequestRepository;
+    @Autowired
+    private EmailVerificationRepository emailVerificationRepository;
+
+    @BeforeEach
+    public void setUp() {
+        SqlCaptor.STATEMENTS.clear();
+    }
+
+    @Test
+    public void 팀_멤버_조회() {
+        assertUsesIndex("idx_user_team_id", () -> userRepository.findAllByTeamId(1L));
+    }
+
+    @Test
+    public void 이메일로_유저_조회() {
+        assertUsesIndex("uk_user_email", () -> userRepository.findByEmail("a@jbnu.ac.kr"));
+    }
+
+    @Test
+    public void 닉네임_중복_확인() {
+        assertUsesIndex("uk_user_nickname", () -> userRepository.existsByNickname("a"));
+    }
+
+    @Test
+    public void 준비된_팀_조회() {
+        assertUsesIndex("idx_team_status_updated_at", () -> teamRepository
+            .findAllByStatusOrderByUpdatedAtDesc(PageRequest.of(0, 10), TeamStatus.READY));
+    }
+
+    @Test
+    public void 초대_중복_확인() {
+        assertUsesIndex("uk_invitation_team_id_user_id", () -> invitationRepository
+            .existsByTeamAndUser(team(), entityManager.getReference(User.class, 1L)));
+    }
+
+    @Test
+    public void 매칭_요청_중복_확인() {
+        assertUsesIndex("uk_matching_request_sender_id_receiver_id",
+            () -> matchingRequestRepository.findRequestedReceiverIds(team(), List.of(2L, 3L)));
+    }
+
+    @Test
+    public void 만료_대상_초대_조회() {
+        assertUsesIndex("idx_invitation_created_at", () -> {
+            try (Stream<Object[]> rows = invitationRepository.streamCreatedAtSince(SINCE)) {
+                rows.count();
+            }
+        });
+    }
+
+    @Test
+    public void 만료_대상_매칭_요청_조회() {
+        assertUsesIndex("idx_matching_request_created_at", () -> {
+            try (Stream<Object[]> rows = matchingRequestRepository.streamCreatedAtSince(SINCE)) {
+                rows.count();
+            }
+        });
+    }
+
+    @Test
+    public void 오래된_준비된_팀_조회() {
+        assertUsesIndex("idx_team_status_updated_at", () -> {
+            try (Stream<Object[]> rows =
+                teamRepository.streamUpdatedAtByStatusSince(TeamStatus.READY, SINCE)) {
+                rows.count();
+            }
+        });
+    }
+
+    @Test
+    public void 이메일_인증_조회() {
+        assertUsesIndex("uk_email_verification_email",
+            () -> emailVerificationRepository.findByEmail("a@jbnu.ac.kr"));
+    }
+
+    private Team team() {
+        return entityManager.getReference(Team.class, 1L);
+    }
+
+    private void assertUsesIndex(String index, Runnable query) {
+        query.run();
+
+        assertThat(SqlCaptor.STATEMENTS).isNotEmpty();
+        for (String sql : SqlCaptor.STATEMENTS) {
+            List<String> plan = explain(sql);
+            assertThat(plan).noneMatch(line -> line.contains("tableScan"));
+            assertThat(String.join("\n", plan)).containsIgnoringCase(index);
+        }
+    }
+
+    private List<String> explain(String sql) {
+        long parameters = sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("explain " + sql, statement -> {
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+        }, (resultSet, rowNum) -> resultSet.getString(1));
+    }
+
+    public static class SqlCaptor implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
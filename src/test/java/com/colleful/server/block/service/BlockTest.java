@@ -0,0 +1,115 @@
+package com.colleful.server.block.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.block.domain.Block;
+import com.colleful.server.block.repository.BlockRepository;
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.NotFoundResourceException;
+import com.colleful.server.user.domain.User;
+import com.colleful.server.user.service.UserServiceForService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BlockTest {
+
+    @InjectMocks
+    private BlockServiceImpl blockServiceImpl;
+    @Mock
+    private BlockRepository blockRepository;
+    @Mock
+    private UserServiceForService userService;
+    @Mock
+    private BlockedUsers blockedUsers;
+
+    @Test
+    public void 차단() {
+        when(userService.getUser(2L)).thenReturn(User.builder().id(2L).build());
+
+        blockServiceImpl.block(2L, 1L);
+
+        verify(blockRepository).save(any());
+        verify(blockedUsers).invalidate(1L, 2L);
+    }
+
+    @Test
+    public void 이미_차단한_유저_차단() {
+        when(userService.getUser(2L)).thenReturn(User.builder().id(2L).build());
+        when(blockRepository.existsByBlockerIdAndBlockedId(1L, 2L)).thenReturn(true);
+
+        assertThatThrownBy(() -> blockServiceImpl.block(2L, 1L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+        verify(blockRepository, never()).save(any());
+    }
+
+    @Test
+    public void 자기_자신_차단() {
+        when(userService.getUser(1L)).thenReturn(User.builder().id(1L).build());
+
+        assertThatThrownBy(() -> blockServiceImpl.block(1L, 1L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+    }
+
+    @Test
+    public void 차단하지_않은_유저_차단_해제() {
+        when(blockRepository.findByBlockerIdAndBlockedId(1L, 2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> blockServiceImpl.unblock(2L, 1L))
+            .isInstanceOf(NotFoundResourceException.class);
+    }
+
+    @Test
+    public void 차단_해제() {
+        Block block = new Block(1L, 2L);
+        when(blockRepository.findByBlockerIdAndBlockedId(1L, 2L)).thenReturn(Optional.of(block));
+
+        blockServiceImpl.unblock(2L, 1L);
+
+        verify(blockRepository).delete(block);
+        verify(blockedUsers).invalidate(1L, 2L);
+    }
+
+    @Test
+    public void 차단한_유저와_차단당한_유저를_함께_조회() {
+        when(blockRepository.findBlockedIds(1L)).thenReturn(List.of(3L, 2L));
+        when(blockRepository.findBlockerIds(1L)).thenReturn(List.of(4L, 2L));
+        when(blockRepository.findBlockedTeamIds(1L)).thenReturn(List.of(10L));
+        BlockedUsers users = new BlockedUsers(blockRepository, 100, Duration.ofMinutes(1));
+
+        BlockList blocks = users.get(1L);
+        users.get(1L);
+
+        assertThat(blocks.size()).isEqualTo(3);
+        assertThat(blocks.containsUser(4L)).isTrue();
+        assertThat(blocks.containsUser(5L)).isFalse();
+        assertThat(blocks.hidesTeam(10L, 7L)).isTrue();
+        assertThat(blocks.hidesTeam(11L, 3L)).isTrue();
+        assertThat(blocks.hidesTeam(11L, 7L)).isFalse();
+        verify(blockRepository, times(1)).findBlockedIds(1L);
+    }
+
+    @Test
+    public void 차단_정보가_바뀌면_다시_조회() {
+        when(blockRepository.findBlockedIds(1L)).thenReturn(List.of(), List.of(2L));
+        when(blockRepository.findBlockerIds(1L)).thenReturn(List.of());
+        when(blockRepository.findBlockedTeamIds(1L)).thenReturn(List.of());
+        BlockedUsers users = new BlockedUsers(blockRepository, 100, Duration.ofMinutes(1));
+
+        assertThat(users.isBlocked(1L, 2L)).isFalse();
+        users.invalidate(1L, 2L);
+        assertThat(users.isBlocked(1L, 2L)).isTrue();
+    }
+}
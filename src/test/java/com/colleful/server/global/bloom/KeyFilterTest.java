@@ -0,0 +1,82 @@
+package com.colleful.server.global.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KeyFilterTest {
+
+    private List<String> database;
+    private AtomicInteger queries;
+    private SimpleMeterRegistry meterRegistry;
+    private KeyFilter keyFilter;
+
+    @BeforeEach
+    public void setUp() {
+        database = new ArrayList<>(Arrays.asList("박성필", "박성팔"));
+        queries = new AtomicInteger();
+        meterRegistry = new SimpleMeterRegistry();
+        keyFilter = new KeyFilter("nickname", () -> database.size(),
+            () -> database.stream(), 0.01, meterRegistry);
+    }
+
+    @Test
+    public void 재구성_전에는_DB_조회() {
+        assertThat(keyFilter.isTaken("박성필", exists())).isTrue();
+        assertThat(queries.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 없는_키는_DB_조회_없이_사용_가능() {
+        keyFilter.rebuild();
+
+        for (int i = 0; i < 1000; i++) {
+            keyFilter.isTaken("nickname" + i, exists());
+        }
+
+        assertThat(queries.get()).isLessThan(50);
+        assertThat(meterRegistry.counter("bloom.filter.false.positives", "name", "nickname")
+            .count()).isEqualTo(queries.get());
+    }
+
+    @Test
+    public void 있는_키는_항상_DB_확인() {
+        keyFilter.rebuild();
+
+        assertThat(keyFilter.isTaken("박성필", exists())).isTrue();
+        assertThat(keyFilter.isTaken("박성팔", exists())).isTrue();
+    }
+
+    @Test
+    public void 재구성_이후_추가된_키() {
+        keyFilter.rebuild();
+        database.add("박성칠");
+        keyFilter.add("박성칠");
+
+        assertThat(keyFilter.isTaken("박성칠", exists())).isTrue();
+    }
+
+    @Test
+    public void 재구성_중_추가된_키() {
+        keyFilter.rebuild();
+        keyFilter.add("박성칠");
+        keyFilter.rebuild();
+        database.add("박성칠");
+
+        assertThat(keyFilter.isTaken("박성칠", exists())).isTrue();
+    }
+
+    private Predicate<String> exists() {
+        return key -> {
+            queries.incrementAndGet();
+            return database.contains(key);
+        };
+    }
+}
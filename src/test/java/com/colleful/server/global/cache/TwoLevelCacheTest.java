@@ -0,0 +1,164 @@
+package com.colleful.server.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.colleful.server.global.config.CacheConfig;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+public class TwoLevelCacheTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static TwoLevelCacheManager node1;
+    private static TwoLevelCacheManager node2;
+    private static RedisMessageListenerContainer container1;
+    private static RedisMessageListenerContainer container2;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        CacheConfig cacheConfig = new CacheConfig();
+        node1 = cacheConfig.cacheManager(true, connectionFactory);
+        node2 = cacheConfig.cacheManager(true, connectionFactory);
+        container1 = startContainer(cacheConfig, node1);
+        container2 = startContainer(cacheConfig, node2);
+
+        await(() -> subscribers() >= 2);
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        container1.destroy();
+        container2.destroy();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    public void 다른_서버가_저장한_값_조회() {
+        node1.getCache(CacheNames.TEAMS).put(1L, "team");
+
+        assertThat(node2.getCache(CacheNames.TEAMS).get(1L, String.class)).isEqualTo("team");
+    }
+
+    @Test
+    public void 다른_서버의_로컬_캐시_무효화() throws InterruptedException {
+        node1.getCache(CacheNames.TEAMS).put(2L, "team");
+        node2.getCache(CacheNames.TEAMS).get(2L);
+        assertThat(localValue(node2, CacheNames.TEAMS, 2L)).isEqualTo("team");
+
+        node1.getCache(CacheNames.TEAMS).evict(2L);
+
+        await(() -> localValue(node2, CacheNames.TEAMS, 2L) == null);
+        assertThat(node2.getCache(CacheNames.TEAMS).get(2L)).isNull();
+    }
+
+    @Test
+    public void 다른_서버의_로컬_캐시_전체_무효화() throws InterruptedException {
+        node1.getCache(CacheNames.READY_TEAMS).put("0:10", "page");
+        node2.getCache(CacheNames.READY_TEAMS).get("0:10");
+
+        node1.getCache(CacheNames.READY_TEAMS).clear();
+
+        await(() -> localValue(node2, CacheNames.READY_TEAMS, "0:10") == null);
+        assertThat(node2.getCache(CacheNames.READY_TEAMS).get("0:10")).isNull();
+    }
+
+    @Test
+    public void 전체_무효화는_원격_키를_지우지_않고_세대만_변경() throws InterruptedException {
+        TwoLevelCache cache1 = (TwoLevelCache) node1.getCache(CacheNames.READY_TEAMS);
+        TwoLevelCache cache2 = (TwoLevelCache) node2.getCache(CacheNames.READY_TEAMS);
+        cache1.put("1:10", "page");
+        long generation = cache1.getGeneration();
+
+        cache1.clear();
+
+        await(() -> cache2.getGeneration() == cache1.getGeneration());
+        assertThat(cache1.getGeneration()).isGreaterThan(generation);
+        assertThat(cache2.get("1:10")).isNull();
+        assertThat(remoteKeyExists("colleful:" + CacheNames.READY_TEAMS + "::" + generation
+            + ":1:10")).isTrue();
+    }
+
+    @Test
+    public void 원격_캐시_없이_로컬_캐시만_사용() {
+        TwoLevelCacheManager local = new CacheConfig().cacheManager(false, null);
+        Cache cache = local.getCache(CacheNames.USERS);
+
+        cache.put(1L, "user");
+        assertThat(cache.get(1L, String.class)).isEqualTo("user");
+
+        cache.evict(1L);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object localValue(TwoLevelCacheManager manager, String name, Object key) {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) manager.getCache(name)
+            .getNativeCache()).getIfPresent(key);
+    }
+
+    private static boolean remoteKeyExists(String key) {
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            return Boolean.TRUE.equals(connection.exists(key.getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static RedisMessageListenerContainer startContainer(CacheConfig cacheConfig,
+        TwoLevelCacheManager manager) throws Exception {
+        RedisMessageListenerContainer container =
+            cacheConfig.cacheInvalidationListenerContainer(connectionFactory, manager);
+        container.afterPropertiesSet();
+        container.start();
+        return container;
+    }
+
+    private static long subscribers() {
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            List<?> reply = (List<?>) connection.execute("PUBSUB", "NUMSUB".getBytes(),
+                TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8));
+            return (Long) reply.get(1);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static void await(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (!condition.get()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.colleful.server.global.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class ErrorResponseMapperTest {
+
+    private final ErrorResponseMapper errorResponseMapper =
+        new ErrorResponseMapper(new ObjectMapper());
+
+    @Test
+    public void 예외를_응답으로_변환() {
+        ForbiddenBehaviorException e = new ForbiddenBehaviorException("권한이 없습니다.");
+
+        ResponseEntity<byte[]> response =
+            errorResponseMapper.toResponse(e.getErrorCode(), e.getMessage());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo(
+            "{\"status\":403,\"code\":\"FORBIDDEN_BEHAVIOR\",\"message\":\"권한이 없습니다.\"}");
+    }
+
+    @Test
+    public void 같은_예외는_응답_본문_재사용() {
+        byte[] first = errorResponseMapper.toBody(ErrorCode.NOT_FOUND_RESOURCE, "존재하지 않는 팀입니다.");
+        byte[] second = errorResponseMapper.toBody(ErrorCode.NOT_FOUND_RESOURCE, "존재하지 않는 팀입니다.");
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void 스택_트레이스를_남기지_않음() {
+        assertThat(new NotFoundResourceException("존재하지 않는 팀입니다.").getStackTrace()).isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package com.colleful.server.global.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ExpirySweeperTest {
+
+    private static final Duration TTL = Duration.ofDays(7);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AtomicLong now;
+    private List<Object[]> rows;
+    private List<LocalDateTime> polledSince;
+    private List<List<Long>> chunks;
+    private List<LocalDateTime> cutoffs;
+    private SimpleMeterRegistry meterRegistry;
+    private ExpirySweeper sweeper;
+
+    @BeforeEach
+    public void setUp() {
+        now = new AtomicLong(toMillis(LocalDateTime.of(2020, 10, 1, 12, 0)));
+        rows = new ArrayList<>();
+        polledSince = new ArrayList<>();
+        chunks = new ArrayList<>();
+        cutoffs = new ArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new ExpirySweeper("invitation", TTL, 2, Duration.ZERO,
+            since -> {
+                polledSince.add(since);
+                return rows.stream().filter(row -> ((LocalDateTime) row[1]).isAfter(since));
+            },
+            (ids, cutoff) -> {
+                chunks.add(new ArrayList<>(ids));
+                cutoffs.add(cutoff);
+                return ids.size();
+            },
+            transactionManager, meterRegistry, now::get);
+    }
+
+    @Test
+    public void 유효기간이_지난_항목만_만료() {
+        rows.add(new Object[]{1L, LocalDateTime.of(2020, 9, 20, 0, 0)});
+        rows.add(new Object[]{2L, LocalDateTime.of(2020, 9, 30, 0, 0)});
+        sweeper.poll();
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+        assertThat(chunks).containsExactly(List.of(1L));
+        assertThat(cutoffs).containsExactly(LocalDateTime.of(2020, 9, 24, 12, 0));
+
+        now.addAndGet(Duration.ofDays(6).toMillis());
+        sweeper.sweep();
+
+        assertThat(chunks).containsExactly(List.of(1L), List.of(2L));
+        assertThat(sweeper.size()).isZero();
+        assertThat(meterRegistry.counter("expiry.expired", "name", "invitation").count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    public void 배치_크기로_나누어_만료() {
+        LongStream.rangeClosed(1, 5)
+            .forEach(id -> rows.add(new Object[]{id, LocalDateTime.of(2020, 9, 1, 0, 0)}));
+        sweeper.poll();
+
+        assertThat(sweeper.sweep()).isEqualTo(5);
+        assertThat(chunks).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    }
+
+    @Test
+    public void 마지막으로_본_시각부터_다시_조회() {
+        rows.add(new Object[]{1L, LocalDateTime.of(2020, 10, 1, 11, 0)});
+        sweeper.poll();
+        rows.add(new Object[]{2L, LocalDateTime.of(2020, 10, 1, 11, 30)});
+        sweeper.poll();
+
+        assertThat(polledSince.get(1)).isEqualTo(LocalDateTime.of(2020, 10, 1, 10, 59));
+        assertThat(sweeper.size()).isEqualTo(2);
+        assertThat(sweeper.sweep()).isZero();
+    }
+
+    @Test
+    public void 다시_조회된_항목은_한_번만_예약() {
+        rows.add(new Object[]{1L, LocalDateTime.of(2020, 9, 1, 0, 0)});
+        rows.add(new Object[]{2L, LocalDateTime.of(2020, 10, 1, 11, 0)});
+        sweeper.poll();
+        sweeper.poll();
+
+        assertThat(sweeper.size()).isEqualTo(2);
+        assertThat(sweeper.sweep()).isEqualTo(1);
+        assertThat(chunks).containsExactly(List.of(1L));
+    }
+
+    @Test
+    public void 변경된_항목은_새_시각으로_다시_예약() {
+        rows.add(new Object[]{1L, LocalDateTime.of(2020, 10, 1, 11, 0)});
+        sweeper.poll();
+        rows.set(0, new Object[]{1L, LocalDateTime.of(2020, 10, 1, 11, 30)});
+        sweeper.poll();
+
+        assertThat(sweeper.size()).isEqualTo(2);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
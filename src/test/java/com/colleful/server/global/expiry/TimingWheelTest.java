@@ -0,0 +1,84 @@
+package com.colleful.server.global.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    @Test
+    public void 만료_시각이_지나야_만료() {
+        TimingWheel wheel = new TimingWheel(TICK, 64, 0);
+        wheel.add(1L, 1500);
+        List<Long> expired = new ArrayList<>();
+
+        wheel.advance(1999, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(2000, expired::add);
+        assertThat(expired).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    public void 이미_지난_만료_시각은_바로_만료() {
+        TimingWheel wheel = new TimingWheel(TICK, 64, 10_000);
+        wheel.add(1L, 5000);
+        List<Long> expired = new ArrayList<>();
+
+        wheel.advance(10_000, expired::add);
+
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    public void 상위_단계에서_내려와_만료() {
+        TimingWheel wheel = new TimingWheel(TICK, 64, 0);
+        wheel.add(1L, 3 * DAY);
+        wheel.add(2L, 7 * DAY + 1);
+        List<Long> expired = new ArrayList<>();
+
+        wheel.advance(3 * DAY - 1, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(3 * DAY, expired::add);
+        assertThat(expired).containsExactly(1L);
+
+        wheel.advance(7 * DAY, expired::add);
+        assertThat(expired).containsExactly(1L);
+
+        wheel.advance(7 * DAY + TICK, expired::add);
+        assertThat(expired).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void 무작위_만료_시각도_일찍_만료되지_않음() {
+        TimingWheel wheel = new TimingWheel(TICK, 8, 0);
+        Random random = new Random(42);
+        long[] deadlines = new long[5000];
+        for (int id = 0; id < deadlines.length; id++) {
+            deadlines[id] = random.nextInt((int) (2 * DAY / TICK)) * TICK + random.nextInt(1000);
+            wheel.add(id, deadlines[id]);
+        }
+
+        long[] now = {0};
+        List<Long> late = new ArrayList<>();
+        for (now[0] = 0; now[0] <= 2 * DAY + TICK; now[0] += 7 * TICK) {
+            wheel.advance(now[0], id -> {
+                assertThat(deadlines[(int) id]).isLessThanOrEqualTo(now[0]);
+                if (now[0] - deadlines[(int) id] > 7 * TICK + TICK) {
+                    late.add(id);
+                }
+            });
+        }
+
+        assertThat(wheel.size()).isZero();
+        assertThat(late).isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package com.colleful.server.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.colleful.server.global.exception.ErrorResponseMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+public class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    public void setUp() {
+        filter = new IdempotencyFilter(new InMemoryIdempotencyStore(Duration.ofMinutes(1), 100),
+            new ErrorResponseMapper(new ObjectMapper()));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    public void 같은_키로_재요청하면_응답_재생() throws Exception {
+        MockHttpServletResponse first = execute("key", succeed());
+        MockHttpServletResponse second = execute("key", succeed());
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getHeader("Location")).isEqualTo("/api/teams/1");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    public void 다른_키로_요청하면_다시_실행() throws Exception {
+        execute("key1", succeed());
+        execute("key2", succeed());
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void 실패한_요청은_다시_실행() throws Exception {
+        execute("key", (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(403);
+        });
+        execute("key", succeed());
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void 같은_키로_다른_본문을_보내면_거절() throws Exception {
+        execute("key", "{\"teamName\":\"팀1\"}", succeed());
+        MockHttpServletResponse second = execute("key", "{\"teamName\":\"팀2\"}", succeed());
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(422);
+        assertThat(second.getContentType()).isEqualTo("application/json");
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8))
+            .contains("\"code\":\"NOT_MATCHED_REQUEST\"");
+    }
+
+    @Test
+    public void 잘못된_키로_요청하면_JSON으로_거절() throws Exception {
+        MockHttpServletResponse response = execute(" ", succeed());
+
+        assertThat(executions.get()).isZero();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+            .contains("\"code\":\"INVALID_REQUEST\"");
+    }
+
+    @Test
+    public void 실행_중인_요청의_본문을_그대로_전달() throws Exception {
+        String[] received = new String[1];
+
+        execute("key", "{\"teamName\":\"팀1\"}", (request, response) ->
+            received[0] = StreamUtils.copyToString(request.getInputStream(),
+                StandardCharsets.UTF_8));
+
+        assertThat(received[0]).isEqualTo("{\"teamName\":\"팀1\"}");
+    }
+
+    @Test
+    public void 예약이_만료된_뒤의_해제는_다른_예약을_지우지_않음() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMinutes(1), 100);
+        String expired = store.reserve("key").orElseThrow();
+        store.release("key", expired);
+        String current = store.reserve("key").orElseThrow();
+
+        store.release("key", expired);
+
+        assertThat(store.reserve("key")).isEmpty();
+        store.release("key", current);
+        assertThat(store.reserve("key")).isPresent();
+    }
+
+    @Test
+    public void 처리_중인_요청과_같은_키로_요청() throws Exception {
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+
+        execute("key", (request, response) -> nested[0] = execute("key", succeed()));
+
+        assertThat(nested[0].getStatus()).isEqualTo(409);
+        assertThat(nested[0].getContentAsString(StandardCharsets.UTF_8))
+            .contains("\"code\":\"PROCESSING_REQUEST\"");
+    }
+
+    private FilterChain succeed() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setHeader("Location", "/api/teams/1");
+            http.setContentType("application/json");
+            http.getWriter().write("{\"id\":" + executions.get() + "}");
+            http.getWriter().flush();
+        };
+    }
+
+    private MockHttpServletResponse execute(String key, FilterChain chain) throws Exception {
+        return execute(key, "", chain);
+    }
+
+    private MockHttpServletResponse execute(String key, String body, FilterChain chain)
+        throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/teams");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,90 @@
+package com.colleful.server.global.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class SqlStatisticsTest {
+
+    private static final String SQL = "select * from department where id=?";
+
+    private SqlStatistics sqlStatistics;
+
+    @BeforeEach
+    public void setUp() {
+        sqlStatistics = new SqlStatistics();
+        ReflectionTestUtils.setField(sqlStatistics, "nPlusOneThreshold", 3);
+        ReflectionTestUtils.setField(sqlStatistics, "maxQueries", 2);
+    }
+
+    @Test
+    public void 반복_쿼리_N플러스1_감지() {
+        ReflectionTestUtils.setField(sqlStatistics, "sampleRate", 1.0);
+
+        sqlStatistics.beginRequest();
+        for (int i = 0; i < 3; i++) {
+            execute();
+        }
+        sqlStatistics.endRequest("GET /api/teams/{id}/members");
+
+        assertThat(sqlStatistics.getQueries().get(SQL).get("count")).isEqualTo(3L);
+        assertThat(sqlStatistics.getNPlusOneSuspects())
+            .containsEntry("GET /api/teams/{id}/members " + SQL, 1L);
+    }
+
+    @Test
+    public void 샘플링되지_않은_요청은_기록하지_않음() {
+        ReflectionTestUtils.setField(sqlStatistics, "sampleRate", 0.0);
+
+        sqlStatistics.beginRequest();
+        execute();
+        sqlStatistics.endRequest("GET /api/teams");
+
+        assertThat(sqlStatistics.getQueries()).isEmpty();
+    }
+
+    @Test
+    public void 길이가_다른_IN_목록과_리터럴은_같은_쿼리로_기록() {
+        ReflectionTestUtils.setField(sqlStatistics, "sampleRate", 1.0);
+
+        sqlStatistics.beginRequest();
+        execute("select * from team where id in (?, ?)");
+        execute("select * from team where id in (?, ?, ?, ?)");
+        execute("select * from team where id in (1, 2, 3) and team_name = 'it''s'");
+        sqlStatistics.endRequest("GET /api/teams");
+
+        assertThat(sqlStatistics.getQueries()).containsOnlyKeys(
+            "select * from team where id in (?)",
+            "select * from team where id in (?) and team_name = ?");
+    }
+
+    @Test
+    public void 기록하는_쿼리_수_제한() {
+        ReflectionTestUtils.setField(sqlStatistics, "sampleRate", 1.0);
+
+        sqlStatistics.beginRequest();
+        execute("select * from team");
+        execute("select * from user");
+        execute("select * from invitation");
+        execute("select * from matching_request");
+        sqlStatistics.endRequest("GET /api/teams");
+
+        assertThat(sqlStatistics.getQueries()).hasSize(3);
+        assertThat(sqlStatistics.getQueries().get("(other)").get("count")).isEqualTo(2L);
+    }
+
+    private void execute() {
+        execute(SQL);
+    }
+
+    private void execute(String sql) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(2);
+        sqlStatistics.afterQuery(execInfo, Collections.singletonList(new QueryInfo(sql)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.colleful.server.global.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import org.junit.jupiter.api.Test;
+
+public class YearClockTest {
+
+    @Test
+    public void 새해가_되는_순간_연도_변경() {
+        long newYear = startOf(2030);
+
+        assertThat(YearClock.currentYear(newYear - 1)).isEqualTo(2029);
+        assertThat(YearClock.currentYear(newYear)).isEqualTo(2030);
+    }
+
+    @Test
+    public void 이전_시각을_조회해도_그_해의_연도() {
+        assertThat(YearClock.currentYear(startOf(2031))).isEqualTo(2031);
+        assertThat(YearClock.currentYear(startOf(2031) - 1)).isEqualTo(2030);
+        assertThat(YearClock.currentYear())
+            .isEqualTo(LocalDate.now(ZoneId.systemDefault()).getYear());
+    }
+
+    private long startOf(int year) {
+        return LocalDate.of(year, 1, 1)
+            .atStartOfDay(ZoneId.systemDefault())
+            .toInstant()
+            .toEpochMilli();
+    }
+}
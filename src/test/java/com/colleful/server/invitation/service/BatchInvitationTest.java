@@ -0,0 +1,127 @@
+package com.colleful.server.invitation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.global.dto.BatchDto;
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.InvalidRequestException;
+import com.colleful.server.invitation.repository.InvitationRepository;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.service.TeamServiceForService;
+import com.colleful.server.user.domain.Gender;
+import com.colleful.server.user.domain.User;
+import com.colleful.server.user.service.UserServiceForService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchInvitationTest {
+
+    @InjectMocks
+    private InvitationServiceImpl invitationServiceImpl;
+    @Mock
+    private InvitationRepository invitationRepository;
+    @Mock
+    private TeamServiceForService teamService;
+    @Mock
+    private UserServiceForService userService;
+    @Mock
+    private BlockedUsers blockedUsers;
+
+    @Test
+    public void 일괄_초대() {
+        List<Long> targetIds = Arrays.asList(2L, 3L, 4L, 2L);
+        when(teamService.getUserTeam(1L))
+            .thenReturn(Team.builder()
+                .id(1L)
+                .leaderId(1L)
+                .gender(Gender.MALE)
+                .status(TeamStatus.PENDING)
+                .build());
+        when(userService.getUsers(targetIds))
+            .thenReturn(Arrays.asList(
+                User.builder().id(2L).gender(Gender.MALE).build(),
+                User.builder().id(3L).gender(Gender.FEMALE).build()));
+        when(invitationRepository.findInvitedUserIds(any(), any()))
+            .thenReturn(Collections.emptyList());
+
+        List<BatchDto.Response> results = invitationServiceImpl.inviteAll(targetIds, 1L);
+
+        assertThat(results).extracting(BatchDto.Response::getTargetId)
+            .containsExactly(2L, 3L, 4L, 2L);
+        assertThat(results).extracting(BatchDto.Response::isSuccess)
+            .containsExactly(true, false, false, false);
+        verify(invitationRepository, times(1)).save(any());
+    }
+
+    @Test
+    public void 이미_초대한_유저_일괄_초대() {
+        List<Long> targetIds = Collections.singletonList(2L);
+        when(teamService.getUserTeam(1L))
+            .thenReturn(Team.builder()
+                .id(1L)
+                .leaderId(1L)
+                .gender(Gender.MALE)
+                .status(TeamStatus.PENDING)
+                .build());
+        when(userService.getUsers(targetIds))
+            .thenReturn(Collections.singletonList(
+                User.builder().id(2L).gender(Gender.MALE).build()));
+        when(invitationRepository.findInvitedUserIds(any(), any()))
+            .thenReturn(Collections.singletonList(2L));
+
+        List<BatchDto.Response> results = invitationServiceImpl.inviteAll(targetIds, 1L);
+
+        assertThat(results).extracting(BatchDto.Response::isSuccess).containsExactly(false);
+        verify(invitationRepository, never()).save(any());
+    }
+
+    @Test
+    public void 초대할_유저_목록_없이_일괄_초대() {
+        assertThatThrownBy(() -> invitationServiceImpl.inviteAll(null, 1L))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> invitationServiceImpl.inviteAll(Arrays.asList(2L, null), 1L))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    public void 최대_인원을_넘는_유저를_일괄_초대() {
+        List<Long> ids = LongStream.rangeClosed(2, BatchDto.MAX_SIZE + 2)
+            .boxed()
+            .collect(Collectors.toList());
+
+        assertThatThrownBy(() -> invitationServiceImpl.inviteAll(ids, 1L))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    public void 리더가_아닌_사용자가_일괄_초대() {
+        when(teamService.getUserTeam(1L))
+            .thenReturn(Team.builder()
+                .id(1L)
+                .leaderId(3L)
+                .gender(Gender.MALE)
+                .status(TeamStatus.PENDING)
+                .build());
+
+        assertThatThrownBy(() -> invitationServiceImpl
+            .inviteAll(Collections.singletonList(2L), 1L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.colleful.server.block.service.BlockedUsers;
 import com.colleful.server.invitation.repository.InvitationRepository;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.team.domain.TeamStatus;
@@ -30,6 +31,8 @@ public class InvitationTest {
     private TeamServiceForService teamService;
     @Mock
     private UserServiceForService userService;
+    @Mock
+    private BlockedUsers blockedUsers;
 
     @Test
     public void 초대() {
@@ -93,4 +96,21 @@ public class InvitationTest {
         assertThatThrownBy(() -> invitationServiceImpl.invite(2L, 1L))
             .isInstanceOf(ForbiddenBehaviorException.class);
     }
+
+    @Test
+    public void 차단한_유저_초대() {
+        when(teamService.getUserTeam(1L))
+            .thenReturn(Team.builder()
+                .id(1L)
+                .leaderId(1L)
+                .gender(Gender.MALE)
+                .status(TeamStatus.PENDING)
+                .build());
+        when(userService.getUser(2L))
+            .thenReturn(User.builder().id(2L).gender(Gender.MALE).build());
+        when(blockedUsers.isBlocked(1L, 2L)).thenReturn(true);
+
+        assertThatThrownBy(() -> invitationServiceImpl.invite(2L, 1L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+    }
 }
@@ -0,0 +1,52 @@
+package com.colleful.server.invitation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.invitation.domain.Invitation;
+import com.colleful.server.invitation.repository.InvitationRepository;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.service.TeamServiceForService;
+import com.colleful.server.user.domain.User;
+import com.colleful.server.user.service.UserServiceForService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ListingInvitationTest {
+
+    @InjectMocks
+    private InvitationServiceImpl invitationServiceImpl;
+    @Mock
+    private InvitationRepository invitationRepository;
+    @Mock
+    private TeamServiceForService teamService;
+    @Mock
+    private UserServiceForService userService;
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    public void 받은_초대_순회() {
+        User user = User.builder().id(1L).build();
+        Invitation first = new Invitation(Team.builder().id(1L).build(), user);
+        Invitation second = new Invitation(Team.builder().id(2L).build(), user);
+        when(userService.getUser(1L)).thenReturn(user);
+        when(invitationRepository.streamAllByUser(user)).thenReturn(Stream.of(first, second));
+
+        List<Invitation> visited = new ArrayList<>();
+        invitationServiceImpl.forEachReceivedInvitation(1L, visited::add);
+
+        assertThat(visited).containsExactly(first, second);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+}
@@ -9,8 +9,11 @@ import com.colleful.server.matching.domain.MatchingRequest;
 import com.colleful.server.matching.repository.MatchingRequestRepository;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.service.TeamServiceForService;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.NotFoundResourceException;
 import com.colleful.server.user.domain.Gender;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,9 +29,12 @@ public class AcceptanceTest {
     private MatchingRequestServiceImpl matchingRequestServiceImpl;
     @Mock
     private MatchingRequestRepository matchingRequestRepository;
+    @Mock
+    private TeamServiceForService teamService;
 
     private Team team1;
     private Team team2;
+    private MatchingRequest match;
 
     @BeforeEach
     public void init() {
@@ -43,20 +49,59 @@ public class AcceptanceTest {
             .gender(Gender.FEMALE)
             .status(TeamStatus.READY)
             .build();
-        when(matchingRequestRepository.findById(1L))
-            .thenReturn(Optional.of(new MatchingRequest(team1, team2)));
+        match = new MatchingRequest(team1, team2);
+        when(matchingRequestRepository.findById(1L)).thenReturn(Optional.of(match));
     }
 
     @Test
     public void 매치_수락() {
+        when(matchingRequestRepository.findAllBetweenForUpdate(team1, team2))
+            .thenReturn(List.of(match));
+
         matchingRequestServiceImpl.accept(1L, 2L);
 
+        verify(teamService).lockForUpdate(team1, team2);
+
         assertThat(team1.getMatchedTeamId()).isEqualTo(2L);
         assertThat(team2.getMatchedTeamId()).isEqualTo(1L);
         assertThat(team1.getStatus()).isEqualTo(TeamStatus.MATCHED);
         assertThat(team2.getStatus()).isEqualTo(TeamStatus.MATCHED);
     }
 
+    @Test
+    public void 잠금_후_이미_삭제된_매치_수락() {
+        when(matchingRequestRepository.findAllBetweenForUpdate(team1, team2))
+            .thenReturn(List.of());
+
+        assertThatThrownBy(() -> matchingRequestServiceImpl.accept(1L, 2L))
+            .isInstanceOf(NotFoundResourceException.class);
+        assertThat(team1.isMatched()).isFalse();
+        assertThat(team2.isMatched()).isFalse();
+    }
+
+    @Test
+    public void 잠금_후_다른_팀과_매칭된_팀의_매치_수락() {
+        when(matchingRequestRepository.findAllBetweenForUpdate(team1, team2))
+            .thenReturn(List.of(match));
+        team1.match(3L);
+
+        assertThatThrownBy(() -> matchingRequestServiceImpl.accept(1L, 2L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+        assertThat(team2.isMatched()).isFalse();
+    }
+
+    @Test
+    public void 준비_상태가_아닌_팀의_매치_수락() {
+        when(matchingRequestRepository.findAllBetweenForUpdate(team1, team2))
+            .thenReturn(List.of(match));
+        team2.changeStatus(TeamStatus.PENDING);
+
+        assertThatThrownBy(() -> matchingRequestServiceImpl.accept(1L, 2L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+        assertThat(team1.isMatched()).isFalse();
+        assertThat(team2.isMatched()).isFalse();
+    }
+
     @Test
     public void 리더가_아닌_사용자가_매치_수락() {
         assertThatThrownBy(() -> matchingRequestServiceImpl.accept(1L, 3L))
@@ -0,0 +1,156 @@
+package com.colleful.server.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.global.dto.BatchDto;
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.InvalidRequestException;
+import com.colleful.server.matching.domain.MatchingRequest;
+import com.colleful.server.matching.repository.MatchingRequestRepository;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.service.TeamServiceForService;
+import com.colleful.server.user.domain.Gender;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchRequestTest {
+
+    @InjectMocks
+    private MatchingRequestServiceImpl matchingRequestServiceImpl;
+    @Mock
+    private MatchingRequestRepository matchingRequestRepository;
+    @Mock
+    private TeamServiceForService teamService;
+    @Mock
+    private BlockedUsers blockedUsers;
+
+    @Test
+    public void 일괄_매치_요청() {
+        List<Long> receiverIds = Arrays.asList(2L, 3L, 4L, 5L);
+        when(teamService.getUserTeam(1L))
+            .thenReturn(Team.builder()
+                .id(1L)
+                .leaderId(1L)
+                .gender(Gender.MALE)
+                .status(TeamStatus.PENDING)
+                .build());
+        when(teamService.getTeams(receiverIds))
+            .thenReturn(Arrays.asList(
+                Team.builder().id(2L).gender(Gender.FEMALE).status(TeamStatus.READY).build(),
+                Team.builder().id(3L).gender(Gender.MALE).status(TeamStatus.READY).build(),
+                Team.builder().id(4L).gender(Gender.FEMALE).status(TeamStatus.PENDING).build()));
+        when(matchingRequestRepository.findRequestedReceiverIds(any(), any()))
+            .thenReturn(Collections.emptyList());
+
+        List<BatchDto.Response> results = matchingRequestServiceImpl.requestAll(receiverIds, 1L);
+
+        assertThat(results).extracting(BatchDto.Response::getTargetId)
+            .containsExactly(2L, 3L, 4L, 5L);
+        assertThat(results).extracting(BatchDto.Response::isSuccess)
+            .containsExactly(true, false, false, false);
+        verify(matchingRequestRepository, times(1)).save(any());
+    }
+
+    @Test
+    public void 나에게_매치_요청한_팀에게_일괄_매치_요청하면_바로_매칭() {
+        List<Long> receiverIds = Collections.singletonList(2L);
+        Team sender = Team.builder()
+            .id(1L)
+            .leaderId(1L)
+            .gender(Gender.MALE)
+            .status(TeamStatus.READY)
+            .build();
+        Team receiver = Team.builder()
+            .id(2L)
+            .gender(Gender.FEMALE)
+            .status(TeamStatus.READY)
+            .build();
+        when(teamService.getUserTeam(1L)).thenReturn(sender);
+        when(teamService.getTeams(receiverIds)).thenReturn(Collections.singletonList(receiver));
+        when(matchingRequestRepository.findRequestedReceiverIds(any(), any()))
+            .thenReturn(Collections.emptyList());
+        when(matchingRequestRepository.findAllBetweenForUpdate(sender, receiver))
+            .thenReturn(List.of(new MatchingRequest(receiver, sender)));
+
+        List<BatchDto.Response> results = matchingRequestServiceImpl.requestAll(receiverIds, 1L);
+
+        assertThat(results).extracting(BatchDto.Response::isSuccess).containsExactly(true);
+        assertThat(sender.getMatchedTeamId()).isEqualTo(2L);
+        assertThat(receiver.getMatchedTeamId()).isEqualTo(1L);
+        verify(teamService).lockForUpdate(List.of(receiver, sender));
+        verify(matchingRequestRepository).deleteAllByTeams(List.of(sender, receiver));
+        verify(matchingRequestRepository, never()).save(any());
+    }
+
+    @Test
+    public void 이미_요청한_팀에게_일괄_매치_요청() {
+        List<Long> receiverIds = Collections.singletonList(2L);
+        when(teamService.getUserTeam(1L))
+            .thenReturn(Team.builder()
+                .id(1L)
+                .leaderId(1L)
+                .gender(Gender.MALE)
+                .status(TeamStatus.PENDING)
+                .build());
+        when(teamService.getTeams(receiverIds))
+            .thenReturn(Collections.singletonList(
+                Team.builder().id(2L).gender(Gender.FEMALE).status(TeamStatus.READY).build()));
+        when(matchingRequestRepository.findRequestedReceiverIds(any(), any()))
+            .thenReturn(Collections.singletonList(2L));
+
+        List<BatchDto.Response> results = matchingRequestServiceImpl.requestAll(receiverIds, 1L);
+
+        assertThat(results).extracting(BatchDto.Response::isSuccess).containsExactly(false);
+        verify(matchingRequestRepository, never()).save(any());
+    }
+
+    @Test
+    public void 매치_요청할_팀_목록_없이_일괄_매치_요청() {
+        assertThatThrownBy(() -> matchingRequestServiceImpl.requestAll(null, 1L))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> matchingRequestServiceImpl.requestAll(Arrays.asList(2L, null), 1L))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    public void 최대_개수를_넘는_팀에게_일괄_매치_요청() {
+        List<Long> ids = LongStream.rangeClosed(2, BatchDto.MAX_SIZE + 2)
+            .boxed()
+            .collect(Collectors.toList());
+
+        assertThatThrownBy(() -> matchingRequestServiceImpl.requestAll(ids, 1L))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    public void 리더가_아닌_사용자가_일괄_매치_요청() {
+        when(teamService.getUserTeam(1L))
+            .thenReturn(Team.builder()
+                .id(1L)
+                .leaderId(3L)
+                .gender(Gender.MALE)
+                .status(TeamStatus.PENDING)
+                .build());
+
+        assertThatThrownBy(() -> matchingRequestServiceImpl
+            .requestAll(Collections.singletonList(2L), 1L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+    }
+}
@@ -0,0 +1,185 @@
+package com.colleful.server.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.colleful.server.global.exception.DomainException;
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.matching.dto.MatchingRequestDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(webEnvironment = WebEnvironment.NONE, properties = {
+    "spring.datasource.url=jdbc:h2:mem:mutual;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+        + "DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "management.server.port=-1",
+    "monitoring.sql.sample-rate=0"
+})
+public class MutualRequestConcurrencyTest {
+
+    private static final int ROUNDS = 20;
+    private static final long ACCEPT_BASE_ID = 100;
+    private static final long NOT_READY_BASE_ID = 200;
+
+    @Autowired
+    private MatchingRequestService matchingRequestService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+
+        if (jdbcTemplate.queryForObject("select count(*) from team", Long.class) > 0) {
+            return;
+        }
+
+        jdbcTemplate.update("insert into department (id, college_name, department_name) "
+            + "values (1, '공과대학', '컴퓨터공학부')");
+        for (long id = 1; id <= ROUNDS * 2; id++) {
+            insertTeam(id, id % 2 == 1 ? "MALE" : "FEMALE");
+        }
+        for (long round = 0; round < ROUNDS; round++) {
+            long base = ACCEPT_BASE_ID + round * 3;
+            insertTeam(base + 1, "MALE");
+            insertTeam(base + 2, "FEMALE");
+            insertTeam(base + 3, "MALE");
+        }
+        insertTeam(NOT_READY_BASE_ID + 1, "MALE");
+        insertTeam(NOT_READY_BASE_ID + 2, "FEMALE");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void 동시에_서로_매치_요청하면_한_번만_매칭() throws Exception {
+        for (long round = 0; round < ROUNDS; round++) {
+            long first = round * 2 + 1;
+            long second = round * 2 + 2;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<MatchingRequestDto.Result>> results = new ArrayList<>();
+
+            results.add(executor.submit(() -> {
+                start.await();
+                return matchingRequestService.request(second, first);
+            }));
+            results.add(executor.submit(() -> {
+                start.await();
+                return matchingRequestService.request(first, second);
+            }));
+            start.countDown();
+
+            int matched = 0;
+            for (Future<MatchingRequestDto.Result> result : results) {
+                if (result.get().isMatched()) {
+                    matched++;
+                }
+            }
+
+            assertThat(matched).isEqualTo(1);
+            assertThat(matchedTeamId(first)).isEqualTo(second);
+            assertThat(matchedTeamId(second)).isEqualTo(first);
+            assertThat(jdbcTemplate.queryForObject("select count(*) from matching_request "
+                + "where sender_id in (?, ?) or receiver_id in (?, ?)", Long.class,
+                first, second, first, second)).isZero();
+        }
+    }
+
+    @Test
+    public void 수락과_서로_매치_요청이_동시에_일어나도_한_팀과만_매칭() throws Exception {
+        for (long round = 0; round < ROUNDS; round++) {
+            long base = ACCEPT_BASE_ID + round * 3;
+            long first = base + 1;
+            long second = base + 2;
+            long third = base + 3;
+            matchingRequestService.request(first, second);
+            matchingRequestService.request(second, third);
+            Long acceptedId = jdbcTemplate.queryForObject("select id from matching_request "
+                + "where sender_id = ? and receiver_id = ?", Long.class, third, second);
+            CountDownLatch start = new CountDownLatch(1);
+
+            Future<?> mutual = executor.submit(() -> {
+                start.await();
+                return matchingRequestService.request(second, first);
+            });
+            Future<?> accept = executor.submit(() -> {
+                start.await();
+                matchingRequestService.accept(acceptedId, second);
+                return null;
+            });
+            start.countDown();
+
+            boolean mutualSucceeded = succeeded(mutual);
+            boolean acceptSucceeded = succeeded(accept);
+            long winner = mutualSucceeded ? first : third;
+            long loser = mutualSucceeded ? third : first;
+
+            assertThat(mutualSucceeded).isNotEqualTo(acceptSucceeded);
+            assertThat(matchedTeamId(second)).isEqualTo(winner);
+            assertThat(matchedTeamId(winner)).isEqualTo(second);
+            assertThat(jdbcTemplate.queryForObject("select matched_team_id from team "
+                + "where id = ?", Long.class, loser)).isNull();
+        }
+    }
+
+    @Test
+    public void 준비되지_않은_팀과는_서로_매치_요청해도_매칭되지_않음() {
+        long first = NOT_READY_BASE_ID + 1;
+        long second = NOT_READY_BASE_ID + 2;
+        matchingRequestService.request(second, first);
+        jdbcTemplate.update("update team set status = 'PENDING' where id = ?", first);
+
+        assertThatThrownBy(() -> matchingRequestService.request(first, second))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from team "
+            + "where id in (?, ?) and matched_team_id is not null", Long.class, first, second))
+            .isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from matching_request "
+            + "where sender_id = ? and receiver_id = ?", Long.class, first, second)).isOne();
+    }
+
+    private boolean succeeded(Future<?> result) throws InterruptedException {
+        try {
+            result.get();
+            return true;
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(DomainException.class);
+            return false;
+        }
+    }
+
+    private void insertTeam(long id, String gender) {
+        jdbcTemplate.update("insert into team (id, team_name, gender, status, headcount, "
+            + "leader_id) values (?, ?, ?, 'READY', 1, ?)", id, "team" + id, gender, id);
+        jdbcTemplate.update("insert into user (id, email, password, nickname, birth_year, "
+            + "gender, department_id, self_introduction, team_id) "
+            + "values (?, ?, 'password', ?, 2000, ?, 1, '안녕하세요', ?)",
+            id, "user" + id + "@jbnu.ac.kr", "user" + id, gender, id);
+    }
+
+    private Long matchedTeamId(long teamId) {
+        return jdbcTemplate.queryForObject("select matched_team_id from team where id = ? "
+            + "and status = 'MATCHED'", Long.class, teamId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.colleful.server.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.matching.domain.MatchingRequest;
+import com.colleful.server.matching.dto.MatchingRequestDto;
+import com.colleful.server.matching.repository.MatchingRequestRepository;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.service.TeamServiceForService;
+import com.colleful.server.user.domain.Gender;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MutualRequestTest {
+
+    @InjectMocks
+    private MatchingRequestServiceImpl matchingRequestServiceImpl;
+    @Mock
+    private MatchingRequestRepository matchingRequestRepository;
+    @Mock
+    private TeamServiceForService teamService;
+    @Mock
+    private BlockedUsers blockedUsers;
+
+    private Team team1;
+    private Team team2;
+
+    @BeforeEach
+    public void init() {
+        team1 = Team.builder()
+            .id(1L)
+            .leaderId(1L)
+            .gender(Gender.MALE)
+            .status(TeamStatus.READY)
+            .build();
+        team2 = Team.builder()
+            .id(2L)
+            .leaderId(2L)
+            .gender(Gender.FEMALE)
+            .status(TeamStatus.READY)
+            .build();
+        when(teamService.getUserTeam(1L)).thenReturn(team1);
+        when(teamService.getTeam(2L)).thenReturn(team2);
+    }
+
+    @Test
+    public void 서로_매치_요청하면_바로_매칭() {
+        MatchingRequest reverse = new MatchingRequest(team2, team1);
+        when(matchingRequestRepository.findAllBetweenForUpdate(team1, team2))
+            .thenReturn(List.of(reverse));
+
+        MatchingRequestDto.Result result = matchingRequestServiceImpl.request(2L, 1L);
+
+        assertThat(result.isMatched()).isTrue();
+        assertThat(team1.getMatchedTeamId()).isEqualTo(2L);
+        assertThat(team2.getMatchedTeamId()).isEqualTo(1L);
+        assertThat(team1.getStatus()).isEqualTo(TeamStatus.MATCHED);
+        assertThat(team2.getStatus()).isEqualTo(TeamStatus.MATCHED);
+        verify(teamService).lockForUpdate(team1, team2);
+        verify(matchingRequestRepository).deleteAllByTeams(List.of(team1, team2));
+        verify(matchingRequestRepository, never()).save(any());
+    }
+
+    @Test
+    public void 이미_매치_요청한_팀에게_다시_요청() {
+        when(matchingRequestRepository.findAllBetweenForUpdate(team1, team2))
+            .thenReturn(List.of(new MatchingRequest(team1, team2)));
+
+        assertThatThrownBy(() -> matchingRequestServiceImpl.request(2L, 1L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+        verify(matchingRequestRepository, never()).save(any());
+    }
+}
@@ -9,7 +9,9 @@ import com.colleful.server.matching.repository.MatchingRequestRepository;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
 import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.service.TeamServiceForService;
 import com.colleful.server.user.domain.Gender;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,28 +27,39 @@ public class RefusalTest {
     private MatchingRequestServiceImpl matchingRequestServiceImpl;
     @Mock
     private MatchingRequestRepository matchingRequestRepository;
+    @Mock
+    private TeamServiceForService teamService;
+
+    private Team team1;
+    private Team team2;
+    private MatchingRequest match;
 
     @BeforeEach
     public void init() {
-        Team team1 = Team.builder()
+        team1 = Team.builder()
             .id(1L)
             .leaderId(1L)
             .gender(Gender.MALE)
             .build();
-        Team team2 = Team.builder()
+        team2 = Team.builder()
             .id(2L)
             .leaderId(2L)
             .gender(Gender.FEMALE)
             .status(TeamStatus.READY)
             .build();
-        when(matchingRequestRepository.findById(1L))
-            .thenReturn(Optional.of(new MatchingRequest(team1, team2)));
+        match = new MatchingRequest(team1, team2);
+        when(matchingRequestRepository.findById(1L)).thenReturn(Optional.of(match));
     }
 
     @Test
     public void 매치_거절() {
+        when(matchingRequestRepository.findAllBetweenForUpdate(team1, team2))
+            .thenReturn(List.of(match));
+
         matchingRequestServiceImpl.refuse(1L, 2L);
 
+        verify(teamService).lockForUpdate(team1, team2);
+        verify(teamService).markSeen(2L, 1L);
         verify(matchingRequestRepository).deleteById(1L);
     }
 
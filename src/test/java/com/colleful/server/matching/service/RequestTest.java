@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.colleful.server.block.service.BlockedUsers;
 import com.colleful.server.matching.repository.MatchingRequestRepository;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.team.domain.TeamStatus;
@@ -26,6 +27,8 @@ public class RequestTest {
     private MatchingRequestRepository matchingRequestRepository;
     @Mock
     private TeamServiceForService teamService;
+    @Mock
+    private BlockedUsers blockedUsers;
 
     @Test
     public void 매치_요청() {
@@ -43,7 +46,6 @@ public class RequestTest {
                 .gender(Gender.FEMALE)
                 .status(TeamStatus.READY)
                 .build());
-        when(matchingRequestRepository.existsBySenderAndReceiver(any(), any())).thenReturn(false);
 
         matchingRequestServiceImpl.request(2L, 1L);
 
@@ -66,7 +68,6 @@ public class RequestTest {
                 .gender(Gender.MALE)
                 .status(TeamStatus.READY)
                 .build());
-        when(matchingRequestRepository.existsBySenderAndReceiver(any(), any())).thenReturn(false);
 
         assertThatThrownBy(() -> matchingRequestServiceImpl.request(2L, 1L))
             .isInstanceOf(ForbiddenBehaviorException.class);
@@ -109,7 +110,28 @@ public class RequestTest {
                 .gender(Gender.FEMALE)
                 .status(TeamStatus.PENDING)
                 .build());
-        when(matchingRequestRepository.existsBySenderAndReceiver(any(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> matchingRequestServiceImpl.request(2L, 1L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+    }
+
+    @Test
+    public void 차단한_유저의_팀에게_매치_요청() {
+        when(teamService.getUserTeam(1L))
+            .thenReturn(Team.builder()
+                .id(1L)
+                .leaderId(1L)
+                .gender(Gender.MALE)
+                .status(TeamStatus.PENDING)
+                .build());
+        when(teamService.getTeam(2L))
+            .thenReturn(Team.builder()
+                .id(2L)
+                .leaderId(2L)
+                .gender(Gender.FEMALE)
+                .status(TeamStatus.READY)
+                .build());
+        when(blockedUsers.isBlockedTeam(1L, 2L, 2L)).thenReturn(true);
 
         assertThatThrownBy(() -> matchingRequestServiceImpl.request(2L, 1L))
             .isInstanceOf(ForbiddenBehaviorException.class);
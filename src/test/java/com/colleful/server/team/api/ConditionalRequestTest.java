@@ -0,0 +1,114 @@
+package com.colleful.server.team.api;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.colleful.server.global.exception.ErrorResponseMapper;
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.GlobalExceptionHandler;
+import com.colleful.server.global.security.JwtProperties;
+import com.colleful.server.global.security.JwtProvider;
+import com.colleful.server.global.web.EntityTag;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.dto.TeamDto;
+import com.colleful.server.team.service.TeamServiceForController;
+import com.colleful.server.user.domain.Gender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+public class ConditionalRequestTest {
+
+    private static final String E_TAG = "\"1-1\"";
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2020, 9, 1, 12, 0);
+
+    @Mock
+    private TeamServiceForController teamService;
+    @Mock
+    private JwtProvider provider;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        when(provider.getId("token")).thenReturn(2L);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TeamController(teamService, provider))
+            .setControllerAdvice(new GlobalExceptionHandler(
+                new ErrorResponseMapper(new ObjectMapper())))
+            .build();
+    }
+
+    @Test
+    public void 권한이_없으면_ETag가_같아도_403() throws Exception {
+        when(teamService.getTeamInfo(1L, 2L))
+            .thenThrow(new ForbiddenBehaviorException("권한이 없습니다."));
+
+        mockMvc.perform(get("/api/teams/1")
+            .header(JwtProperties.HEADER, "token")
+            .header(HttpHeaders.IF_NONE_MATCH, E_TAG))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void 권한이_있으면_ETag가_같을_때_304_응답하고_본_팀으로_기록() throws Exception {
+        when(teamService.getTeamInfo(1L, 2L)).thenReturn(team(UPDATED_AT));
+
+        mockMvc.perform(get("/api/teams/1")
+            .header(JwtProperties.HEADER, "token")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag(UPDATED_AT)))
+            .andExpect(status().isNotModified());
+        verify(teamService).getTeamInfo(1L, 2L);
+    }
+
+    @Test
+    public void ETag는_응답한_팀의_변경_시각으로_만듦() throws Exception {
+        when(teamService.getTeamInfo(1L, 2L)).thenReturn(team(UPDATED_AT));
+
+        mockMvc.perform(get("/api/teams/1")
+            .header(JwtProperties.HEADER, "token")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag(UPDATED_AT.plusSeconds(1))))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag(UPDATED_AT)));
+    }
+
+    @Test
+    public void 권한이_없으면_멤버_ETag가_같아도_403() throws Exception {
+        when(teamService.getMembersVersion(1L, 2L))
+            .thenThrow(new ForbiddenBehaviorException("권한이 없습니다."));
+
+        mockMvc.perform(get("/api/teams/1/members")
+            .header(JwtProperties.HEADER, "token")
+            .header(HttpHeaders.IF_NONE_MATCH, E_TAG))
+            .andExpect(status().isForbidden());
+        verify(teamService, never()).getMembers(1L);
+    }
+
+    private String eTag(LocalDateTime updatedAt) {
+        return '"' + EntityTag.of(1L, updatedAt) + '"';
+    }
+
+    private TeamDto.Response team(LocalDateTime updatedAt) {
+        return new TeamDto.Response(Team.builder()
+            .id(1L)
+            .updatedAt(updatedAt)
+            .teamName("team")
+            .gender(Gender.FEMALE)
+            .status(TeamStatus.READY)
+            .headcount(3)
+            .leaderId(3L)
+            .build());
+    }
+}
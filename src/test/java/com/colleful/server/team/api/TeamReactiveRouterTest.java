@@ -0,0 +1,157 @@
+package com.colleful.server.team.api;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.block.service.BlockList;
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.department.api.DepartmentReactiveHandler;
+import com.colleful.server.department.repository.DepartmentReactiveRepository;
+import com.colleful.server.global.config.ReactiveConfig;
+import com.colleful.server.global.exception.ErrorResponseMapper;
+import com.colleful.server.global.security.JwtHandlerFilter;
+import com.colleful.server.global.security.JwtProperties;
+import com.colleful.server.global.security.JwtProvider;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.repository.TeamReactiveRepository;
+import com.colleful.server.team.service.SeenTeamsStore;
+import com.colleful.server.user.domain.Gender;
+import com.colleful.server.user.repository.UserReactiveRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class TeamReactiveRouterTest {
+
+    @Mock
+    private TeamReactiveRepository teamRepository;
+    @Mock
+    private UserReactiveRepository userRepository;
+    @Mock
+    private DepartmentReactiveRepository departmentRepository;
+    @Mock
+    private BlockedUsers blockedUsers;
+    @Mock
+    private SeenTeamsStore seenTeamsStore;
+    @Mock
+    private JwtProvider provider;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    public void setUp() {
+        when(provider.isValidateToken("token")).thenReturn(true);
+        when(provider.getId("token")).thenReturn(1L);
+        TeamReactiveHandler teamHandler =
+            new TeamReactiveHandler(teamRepository, userRepository, blockedUsers, seenTeamsStore);
+        client = WebTestClient.bindToRouterFunction(new ReactiveConfig().reactiveRoutes(
+            teamHandler, new DepartmentReactiveHandler(departmentRepository),
+            new JwtHandlerFilter(provider), new ErrorResponseMapper(new ObjectMapper())))
+            .build();
+    }
+
+    @Test
+    public void 차단이_없으면_요청한_페이지만_조회() {
+        when(userRepository.findTeamIdById(1L)).thenReturn(Mono.just(Optional.empty()));
+        when(blockedUsers.get(1L)).thenReturn(BlockList.EMPTY);
+        when(teamRepository.findAllByStatusOrderByUpdatedAtDesc(PageRequest.of(0, 10),
+            TeamStatus.READY))
+            .thenReturn(Flux.just(readyTeam(1L), readyTeam(2L)));
+        when(teamRepository.countByStatus(TeamStatus.READY)).thenReturn(Mono.just(2L));
+
+        client.get().uri("/api/teams")
+            .header(JwtProperties.HEADER, "token")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content[*].id").isEqualTo(List.of(1, 2))
+            .jsonPath("$.totalElements").isEqualTo(2);
+    }
+
+    @Test
+    public void 차단한_유저의_팀을_제외하고_조회() {
+        when(userRepository.findTeamIdById(1L)).thenReturn(Mono.just(Optional.empty()));
+        when(blockedUsers.get(1L)).thenReturn(BlockList.of(List.of(30L), List.of(2L)));
+        when(teamRepository.findAllByStatusOrderByUpdatedAtDesc(PageRequest.of(0, 50),
+            TeamStatus.READY))
+            .thenReturn(Flux.just(readyTeam(1L), readyTeam(2L), readyTeam(3L), readyTeam(4L)));
+        when(teamRepository.findAllByStatusOrderByUpdatedAtDesc(PageRequest.of(1, 50),
+            TeamStatus.READY))
+            .thenReturn(Flux.empty());
+        when(teamRepository.countByStatus(TeamStatus.READY)).thenReturn(Mono.just(4L));
+
+        client.get().uri("/api/teams")
+            .header(JwtProperties.HEADER, "token")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content[*].id").isEqualTo(List.of(1, 4))
+            .jsonPath("$.totalElements").isEqualTo(2);
+    }
+
+    @Test
+    public void 본_팀을_제외하고_조회() {
+        when(userRepository.findTeamIdById(1L)).thenReturn(Mono.just(Optional.of(10L)));
+        when(seenTeamsStore.get(10L)).thenReturn(RoaringBitmap.bitmapOf(1, 3));
+        when(blockedUsers.get(1L)).thenReturn(BlockList.EMPTY);
+        when(teamRepository.findAllByStatusOrderByUpdatedAtDesc(PageRequest.of(0, 50),
+            TeamStatus.READY))
+            .thenReturn(Flux.just(readyTeam(1L), readyTeam(2L), readyTeam(3L), readyTeam(4L)));
+        when(teamRepository.findAllByStatusOrderByUpdatedAtDesc(PageRequest.of(1, 50),
+            TeamStatus.READY))
+            .thenReturn(Flux.empty());
+        when(teamRepository.countByStatus(TeamStatus.READY)).thenReturn(Mono.just(4L));
+
+        client.get().uri("/api/teams")
+            .header(JwtProperties.HEADER, "token")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content[*].id").isEqualTo(List.of(2, 4))
+            .jsonPath("$.totalElements").isEqualTo(2);
+    }
+
+    @Test
+    public void 차단한_유저의_팀을_제외하고_검색() {
+        when(blockedUsers.get(1L)).thenReturn(BlockList.of(List.of(30L), List.of(2L)));
+        when(teamRepository.findAllByStatusAndTeamNameContainingOrderByUpdatedAtDesc(
+            PageRequest.of(0, 50), TeamStatus.READY, "team"))
+            .thenReturn(Flux.just(readyTeam(1L), readyTeam(2L), readyTeam(3L), readyTeam(4L)));
+        lenient().when(teamRepository.findAllByStatusAndTeamNameContainingOrderByUpdatedAtDesc(
+            PageRequest.of(1, 50), TeamStatus.READY, "team"))
+            .thenReturn(Flux.empty());
+        when(teamRepository.countByStatusAndTeamNameContaining(TeamStatus.READY, "team"))
+            .thenReturn(Mono.just(4L));
+
+        client.get().uri("/api/teams/team-name/team?size=1&page=1")
+            .header(JwtProperties.HEADER, "token")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content[*].id").isEqualTo(List.of(4))
+            .jsonPath("$.totalElements").isEqualTo(2);
+    }
+
+    private Team readyTeam(Long id) {
+        return Team.builder()
+            .id(id)
+            .teamName("team" + id)
+            .gender(Gender.FEMALE)
+            .status(TeamStatus.READY)
+            .headcount(3)
+            .leaderId(id * 10)
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.colleful.server.team.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.repository.TeamRepository;
+import com.colleful.server.user.domain.Gender;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class RecommendationTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void 성별이_다른_팀만_추천() {
+        TeamFeatures candidates = TeamFeatures.builder()
+            .add(2L, Gender.FEMALE, 3, 2000, "공과대학")
+            .add(3L, Gender.MALE, 3, 2000, "공과대학")
+            .build();
+
+        assertThat(candidates.rank(query(candidates, 1L, Gender.MALE, 3, 2000, "공과대학"), 10))
+            .containsExactly(2L);
+    }
+
+    @Test
+    public void 인원_나이_단과대학이_비슷한_팀이_먼저_추천() {
+        TeamFeatures candidates = TeamFeatures.builder()
+            .add(2L, Gender.FEMALE, 3, 1995, "인문대학")
+            .add(3L, Gender.FEMALE, 1, 2000, "인문대학")
+            .add(4L, Gender.FEMALE, 3, 2000, "공과대학")
+            .add(4L, Gender.FEMALE, 3, 2000, "공과대학")
+            .build();
+
+        assertThat(candidates.rank(query(candidates, 1L, Gender.MALE, 3, 2000, "공과대학"), 10))
+            .containsExactly(4L, 2L, 3L);
+    }
+
+    @Test
+    public void 후보가_많아도_상위_팀만_추천() {
+        TeamFeatures.Builder builder = TeamFeatures.builder();
+        for (long teamId = 2; teamId < 50_000; teamId++) {
+            builder.add(teamId, Gender.FEMALE, 3, 1990 + (int) (teamId % 20), "공과대학");
+        }
+        TeamFeatures candidates = builder.build();
+
+        long[] teamIds =
+            candidates.rank(query(candidates, 1L, Gender.MALE, 3, 2000, "공과대학"), 5);
+
+        assertThat(teamIds).hasSize(5);
+        assertThat(Arrays.stream(teamIds).allMatch(teamId -> teamId % 20 == 10)).isTrue();
+    }
+
+    @Test
+    public void 준비된_팀_정보로_추천() {
+        when(teamRepository.streamMemberFeaturesByStatus(TeamStatus.READY))
+            .thenReturn(Stream.of(
+                new Object[]{2L, Gender.FEMALE, 2, 1999, "공과대학"},
+                new Object[]{2L, Gender.FEMALE, 2, 2001, "공과대학"},
+                new Object[]{3L, Gender.FEMALE, 4, 1995, "인문대학"}));
+        when(teamRepository.findMemberFeaturesByTeamId(1L))
+            .thenReturn(List.<Object[]>of(
+                new Object[]{1L, Gender.MALE, 2, 2000, "공과대학"},
+                new Object[]{1L, Gender.MALE, 2, 2000, "자연과학대학"}));
+        TeamRecommender teamRecommender = new TeamRecommender(teamRepository, transactionManager);
+
+        teamRecommender.rebuild();
+
+        assertThat(teamRecommender.recommend(1L, 10)).containsExactly(2L, 3L);
+    }
+
+    private TeamFeatures query(TeamFeatures candidates, Long teamId, Gender gender,
+        int headcount, int birthYear, String collegeName) {
+        return candidates.queryBuilder()
+            .add(teamId, gender, headcount, birthYear, collegeName)
+            .build();
+    }
+}
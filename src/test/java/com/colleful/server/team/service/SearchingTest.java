@@ -4,18 +4,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
+import com.colleful.server.block.service.BlockList;
+import com.colleful.server.block.service.BlockedUsers;
 import com.colleful.server.team.domain.Team;
 import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.dto.TeamDto;
 import com.colleful.server.team.repository.TeamRepository;
+import com.colleful.server.user.domain.Gender;
 import com.colleful.server.user.domain.User;
 import com.colleful.server.user.service.UserServiceForService;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.InvalidRequestException;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 public class SearchingTest {
@@ -26,6 +36,14 @@ public class SearchingTest {
     private UserServiceForService userService;
     @Mock
     private TeamRepository teamRepository;
+    @Mock
+    private BlockedUsers blockedUsers;
+    @Mock
+    private SeenTeamsStore seenTeamsStore;
+    @Mock
+    private TeamRecommender teamRecommender;
+    @Mock
+    private TrendingTeams trendingTeams;
 
     @Test
     public void 준비된_팀_정보_조회() {
@@ -95,4 +113,69 @@ public class SearchingTest {
         assertThatThrownBy(() -> teamServiceImpl.getUserTeam(1L))
             .isInstanceOf(ForbiddenBehaviorException.class);
     }
+
+    @Test
+    public void 차단한_유저의_팀을_제외하고_검색() {
+        List<Team> teams = List.of(readyTeam(1L), readyTeam(4L));
+        when(blockedUsers.get(1L)).thenReturn(BlockList.of(List.of(12L), List.of(3L)));
+        when(teamRepository.findAllVisibleByStatusAndTeamNameLike(PageRequest.of(0, 10),
+            TeamStatus.READY, "%팀\\_%", 1L))
+            .thenReturn(new PageImpl<>(teams, PageRequest.of(0, 10), teams.size()));
+
+        Page<Team> page = teamServiceImpl.searchTeams(1L, PageRequest.of(0, 10), "팀_");
+
+        assertThat(page.getContent()).extracting(Team::getId).containsExactly(1L, 4L);
+        assertThat(page.getTotalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    public void 본_팀과_차단한_유저의_팀을_제외하고_추천() {
+        when(userService.getUser(1L))
+            .thenReturn(User.builder().id(1L).teamId(1L).build());
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(readyTeam(1L)));
+        when(seenTeamsStore.get(1L)).thenReturn(RoaringBitmap.bitmapOf(2));
+        when(blockedUsers.get(1L)).thenReturn(BlockList.of(List.of(13L), List.of()));
+        when(teamRecommender.recommend(1L, 2)).thenReturn(List.of(2L, 3L));
+        when(teamRepository.findAllById(List.of(3L))).thenReturn(List.of(readyTeam(3L)));
+        when(teamRecommender.recommend(1L, 4)).thenReturn(List.of(2L, 3L, 4L, 5L));
+        when(teamRepository.findAllById(List.of(3L, 4L, 5L)))
+            .thenReturn(List.of(readyTeam(3L), readyTeam(4L), readyTeam(5L)));
+
+        List<TeamDto.Response> teams = teamServiceImpl.getRecommendedTeams(1L, 2);
+
+        assertThat(teams).extracting(TeamDto.Response::getId).containsExactly(4L, 5L);
+    }
+
+    @Test
+    public void 추천받을_팀_수가_1보다_작으면_추천하지_않음() {
+        assertThatThrownBy(() -> teamServiceImpl.getRecommendedTeams(1L, 0))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> teamServiceImpl.getRecommendedTeams(1L, -1))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    public void 본_팀과_차단한_유저의_팀을_제외하고_인기_팀_조회() {
+        when(trendingTeams.getTeams()).thenReturn(List.of(
+            new TeamDto.Response(readyTeam(1L)),
+            new TeamDto.Response(readyTeam(2L)),
+            new TeamDto.Response(readyTeam(3L))));
+        when(userService.getUser(1L))
+            .thenReturn(User.builder().id(1L).teamId(5L).build());
+        when(seenTeamsStore.get(5L)).thenReturn(RoaringBitmap.bitmapOf(1));
+        when(blockedUsers.get(1L)).thenReturn(BlockList.of(List.of(13L), List.of()));
+
+        List<TeamDto.Response> teams = teamServiceImpl.getTrendingTeams(1L);
+
+        assertThat(teams).extracting(TeamDto.Response::getId).containsExactly(2L);
+    }
+
+    private Team readyTeam(Long id) {
+        return Team.builder()
+            .id(id)
+            .gender(Gender.FEMALE)
+            .status(TeamStatus.READY)
+            .leaderId(id + 10)
+            .build();
+    }
 }
@@ -0,0 +1,225 @@
+package com.colleful.server.team.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.block.service.BlockList;
+import com.colleful.server.block.service.BlockedUsers;
+import com.colleful.server.global.dto.PageDto;
+import com.colleful.server.team.domain.SeenTeams;
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.dto.TeamDto;
+import com.colleful.server.team.repository.SeenTeamsRepository;
+import com.colleful.server.team.repository.TeamRepository;
+import com.colleful.server.user.domain.Gender;
+import com.colleful.server.user.domain.User;
+import com.colleful.server.user.service.UserServiceForService;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class SeenTeamsTest {
+
+    @InjectMocks
+    private TeamServiceImpl teamServiceImpl;
+    @Mock
+    private TeamRepository teamRepository;
+    @Mock
+    private UserServiceForService userService;
+    @Mock
+    private SeenTeamsStore seenTeamsStore;
+    @Mock
+    private BlockedUsers blockedUsers;
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @Mock
+    private SeenTeamsRepository seenTeamsRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void 본_팀을_제외하고_준비된_팀_조회() {
+        when(userService.getUser(1L)).thenReturn(User.builder().id(1L).teamId(10L).build());
+        when(seenTeamsStore.get(10L)).thenReturn(RoaringBitmap.bitmapOf(2, 3));
+        when(blockedUsers.get(1L)).thenReturn(BlockList.EMPTY);
+        List<Team> teams = LongStream.rangeClosed(1, 5)
+            .mapToObj(this::readyTeam)
+            .collect(Collectors.toList());
+        when(teamRepository.findAllByStatusOrderByUpdatedAtDesc(PageRequest.of(0, 50),
+            TeamStatus.READY))
+            .thenReturn(new PageImpl<>(teams, PageRequest.of(0, 50), teams.size()));
+
+        PageDto.Response<TeamDto.Response> first =
+            teamServiceImpl.getUnseenReadyTeams(1L, PageRequest.of(0, 2));
+        PageDto.Response<TeamDto.Response> second =
+            teamServiceImpl.getUnseenReadyTeams(1L, PageRequest.of(1, 2));
+
+        assertThat(ids(first)).containsExactly(1L, 4L);
+        assertThat(ids(second)).containsExactly(5L);
+        assertThat(first.getTotalElements()).isEqualTo(3L);
+        verify(teamRepository, times(1)).findAllByStatusOrderByUpdatedAtDesc(
+            PageRequest.of(0, 50), TeamStatus.READY);
+    }
+
+    @Test
+    public void 숨긴_팀이_많으면_정해진_페이지까지만_조회() {
+        when(userService.getUser(1L)).thenReturn(User.builder().id(1L).build());
+        when(blockedUsers.get(1L)).thenReturn(BlockList.of(List.of(100L), List.of()));
+        when(teamRepository.findAllByStatusOrderByUpdatedAtDesc(any(), eq(TeamStatus.READY)))
+            .thenAnswer(invocation -> {
+                Pageable pageable = invocation.getArgument(0);
+                List<Team> teams = LongStream.range(0, pageable.getPageSize())
+                    .mapToObj(i -> Team.builder()
+                        .id(pageable.getOffset() + i + 1)
+                        .teamName("team")
+                        .gender(Gender.FEMALE)
+                        .status(TeamStatus.READY)
+                        .headcount(3)
+                        .leaderId(100L)
+                        .build())
+                    .collect(Collectors.toList());
+                return new PageImpl<>(teams, pageable, 100_000);
+            });
+
+        PageDto.Response<TeamDto.Response> page =
+            teamServiceImpl.getUnseenReadyTeams(1L, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).isEmpty();
+        verify(teamRepository, times(20))
+            .findAllByStatusOrderByUpdatedAtDesc(any(), eq(TeamStatus.READY));
+    }
+
+    @Test
+    public void 본_팀은_저장된_비트맵과_합쳐서_저장() {
+        SeenTeams stored = new SeenTeams(1L);
+        stored.merge(RoaringBitmap.bitmapOf(5));
+        when(seenTeamsRepository.findById(1L)).thenReturn(Optional.of(stored));
+        SeenTeamsStore store = new SeenTeamsStore(seenTeamsRepository, transactionManager, 100,
+            Duration.ofMinutes(1), Ticker.systemTicker());
+
+        store.markSeen(1L, 7L);
+        store.markSeen(1L, 7L);
+        store.flush();
+        store.flush();
+
+        ArgumentCaptor<SeenTeams> saved = ArgumentCaptor.forClass(SeenTeams.class);
+        verify(seenTeamsRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().toBitmap().toArray()).containsExactly(5, 7);
+        assertThat(store.get(1L).toArray()).containsExactly(5, 7);
+    }
+
+    @Test
+    public void 처음_보는_팀은_새로_저장() {
+        when(seenTeamsRepository.findById(2L)).thenReturn(Optional.empty());
+        SeenTeamsStore store = new SeenTeamsStore(seenTeamsRepository, transactionManager, 100,
+            Duration.ofMinutes(1), Ticker.systemTicker());
+
+        store.markSeen(2L, 3L);
+        store.flush();
+
+        ArgumentCaptor<SeenTeams> saved = ArgumentCaptor.forClass(SeenTeams.class);
+        verify(seenTeamsRepository).save(saved.capture());
+        assertThat(saved.getValue().getTeamId()).isEqualTo(2L);
+        assertThat(saved.getValue().toBitmap().toArray()).containsExactly(3);
+    }
+
+    @Test
+    public void 동시에_처음_저장하다_실패한_팀은_다음에_다시_저장() {
+        SeenTeams stored = new SeenTeams(4L);
+        stored.merge(RoaringBitmap.bitmapOf(6));
+        when(seenTeamsRepository.findById(4L))
+            .thenReturn(Optional.empty(), Optional.empty(), Optional.of(stored));
+        when(seenTeamsRepository.findById(5L)).thenReturn(Optional.empty());
+        when(seenTeamsRepository.save(any()))
+            .thenThrow(new DataIntegrityViolationException("duplicate"))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        SeenTeamsStore store = new SeenTeamsStore(seenTeamsRepository, transactionManager, 100,
+            Duration.ofMinutes(1), Ticker.systemTicker());
+
+        store.markSeen(4L, 7L);
+        store.markSeen(5L, 8L);
+        store.flush();
+        store.flush();
+
+        ArgumentCaptor<SeenTeams> saved = ArgumentCaptor.forClass(SeenTeams.class);
+        verify(seenTeamsRepository, times(3)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(SeenTeams::getTeamId).contains(4L, 5L);
+        assertThat(saved.getAllValues().get(2).toBitmap().toArray()).containsExactly(6, 7);
+    }
+
+    @Test
+    public void 비트맵_범위를_넘는_팀은_기록하지_않고_보지_않은_팀으로_조회() {
+        long largeId = Integer.MAX_VALUE + 1L;
+        when(seenTeamsRepository.findById(6L)).thenReturn(Optional.empty());
+        SeenTeamsStore store = new SeenTeamsStore(seenTeamsRepository, transactionManager, 100,
+            Duration.ofMinutes(1), Ticker.systemTicker());
+
+        store.markSeen(6L, largeId);
+        store.flush();
+
+        assertThat(SeenTeamsStore.isSeen(store.get(6L), largeId)).isFalse();
+        assertThat(SeenTeamsStore.isSeen(RoaringBitmap.bitmapOf(0), largeId)).isFalse();
+        verify(seenTeamsRepository, never()).save(any());
+    }
+
+    @Test
+    public void 유효기간이_지나면_다른_서버가_저장한_팀도_조회() {
+        SeenTeams stored = new SeenTeams(3L);
+        stored.merge(RoaringBitmap.bitmapOf(5));
+        when(seenTeamsRepository.findById(3L))
+            .thenReturn(Optional.of(new SeenTeams(3L)), Optional.of(stored));
+        AtomicLong nanos = new AtomicLong();
+        SeenTeamsStore store = new SeenTeamsStore(seenTeamsRepository, transactionManager, 100,
+            Duration.ofMinutes(1), nanos::get);
+
+        assertThat(store.get(3L).isEmpty()).isTrue();
+
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThat(store.get(3L).toArray()).containsExactly(5);
+    }
+
+    private Team readyTeam(long id) {
+        return Team.builder()
+            .id(id)
+            .teamName("team" + id)
+            .gender(Gender.FEMALE)
+            .status(TeamStatus.READY)
+            .headcount(3)
+            .leaderId(id)
+            .build();
+    }
+
+    private List<Long> ids(PageDto.Response<TeamDto.Response> page) {
+        return page.getContent().stream()
+            .map(TeamDto.Response::getId)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,150 @@
+package com.colleful.server.team.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.team.domain.Team;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.dto.TeamDto;
+import com.colleful.server.team.repository.TeamRepository;
+import com.colleful.server.user.domain.Gender;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TrendingTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @BeforeEach
+    public void setUp() {
+        when(teamRepository.findAllById(any())).thenReturn(List.of(
+            team(1L, TeamStatus.READY), team(2L, TeamStatus.READY), team(3L, TeamStatus.PENDING)));
+    }
+
+    @Test
+    public void 최근에_매칭_요청을_많이_받은_팀이_먼저_조회() {
+        TrendingTeams trendingTeams = trendingTeams(Duration.ofHours(6));
+
+        record(trendingTeams, 1L, 3);
+        now.addAndGet(Duration.ofHours(6).toMillis());
+        record(trendingTeams, 2L, 2);
+        trendingTeams.refresh();
+
+        assertThat(ids(trendingTeams)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    public void 준비되지_않은_팀은_제외() {
+        TrendingTeams trendingTeams = trendingTeams(Duration.ofHours(6));
+
+        record(trendingTeams, 3L, 5);
+        record(trendingTeams, 1L, 1);
+        trendingTeams.refresh();
+
+        assertThat(ids(trendingTeams)).containsExactly(1L);
+    }
+
+    @Test
+    public void 기준_시점을_옮겨도_점수_유지() {
+        TrendingTeams trendingTeams = trendingTeams(Duration.ofMillis(100));
+
+        now.set(72_000);
+        record(trendingTeams, 1L, 2);
+        record(trendingTeams, 2L, 1);
+        now.set(72_200);
+        trendingTeams.refresh();
+
+        assertThat(ids(trendingTeams)).containsExactly(1L, 2L);
+
+        record(trendingTeams, 2L, 2);
+        trendingTeams.refresh();
+
+        assertThat(ids(trendingTeams)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    public void 기준_시점을_옮기는_중에_받은_매칭_요청도_유지() throws Exception {
+        AtomicBoolean interleave = new AtomicBoolean();
+        AtomicReference<TrendingTeams> holder = new AtomicReference<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?>[] refreshing = new Future<?>[1];
+        TrendingTeams trendingTeams = new TrendingTeams(teamRepository, Duration.ofMillis(100),
+            10, () -> {
+                if (interleave.compareAndSet(true, false)) {
+                    refreshing[0] = executor.submit(() -> holder.get().refresh());
+                    awaitQuietly(refreshing[0]);
+                }
+                return now.get();
+            });
+        holder.set(trendingTeams);
+
+        try {
+            now.set(72_200);
+            interleave.set(true);
+            trendingTeams.record(1L);
+            refreshing[0].get(5, TimeUnit.SECONDS);
+            trendingTeams.refresh();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids(trendingTeams)).containsExactly(1L);
+    }
+
+    private TrendingTeams trendingTeams(Duration halfLife) {
+        return new TrendingTeams(teamRepository, halfLife, 10, now::get);
+    }
+
+    private void record(TrendingTeams trendingTeams, Long teamId, int count) {
+        for (int i = 0; i < count; i++) {
+            trendingTeams.record(teamId);
+        }
+    }
+
+    private List<Long> ids(TrendingTeams trendingTeams) {
+        return trendingTeams.getTeams().stream()
+            .map(TeamDto.Response::getId)
+            .collect(Collectors.toList());
+    }
+
+    private void awaitQuietly(Future<?> future) {
+        try {
+            future.get(200, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return;
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Team team(Long id, TeamStatus status) {
+        return Team.builder()
+            .id(id)
+            .teamName("team" + id)
+            .gender(Gender.MALE)
+            .status(status)
+            .headcount(3)
+            .leaderId(id)
+            .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.colleful.server.team.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.colleful.server.global.exception.ForbiddenBehaviorException;
+import com.colleful.server.global.exception.NotFoundResourceException;
+import com.colleful.server.team.domain.TeamStatus;
+import com.colleful.server.team.repository.TeamRepository;
+import com.colleful.server.user.domain.User;
+import com.colleful.server.user.service.UserServiceForService;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class VersionTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2020, 9, 1, 12, 0);
+
+    @InjectMocks
+    private TeamServiceImpl teamServiceImpl;
+    @Mock
+    private UserServiceForService userService;
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Test
+    public void 변경되지_않은_팀의_멤버_버전은_같음() {
+        when(teamRepository.findStatusById(1L)).thenReturn(Optional.of(TeamStatus.READY));
+        when(teamRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(UPDATED_AT));
+        when(userService.getMembersUpdatedAt(1L)).thenReturn(UPDATED_AT);
+
+        assertThat(teamServiceImpl.getMembersVersion(1L, 2L))
+            .isEqualTo(teamServiceImpl.getMembersVersion(1L, 2L));
+    }
+
+    @Test
+    public void 팀이_변경되면_멤버_버전이_다름() {
+        when(teamRepository.findStatusById(1L)).thenReturn(Optional.of(TeamStatus.READY));
+        when(teamRepository.findUpdatedAtById(1L))
+            .thenReturn(Optional.of(UPDATED_AT))
+            .thenReturn(Optional.of(UPDATED_AT.plusNanos(1000)));
+        when(userService.getMembersUpdatedAt(1L)).thenReturn(UPDATED_AT);
+
+        assertThat(teamServiceImpl.getMembersVersion(1L, 2L))
+            .isNotEqualTo(teamServiceImpl.getMembersVersion(1L, 2L));
+    }
+
+    @Test
+    public void 멤버가_변경되면_멤버_버전이_다름() {
+        when(teamRepository.findStatusById(1L)).thenReturn(Optional.of(TeamStatus.READY));
+        when(teamRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(UPDATED_AT));
+        when(userService.getMembersUpdatedAt(1L))
+            .thenReturn(UPDATED_AT)
+            .thenReturn(UPDATED_AT.plusSeconds(1));
+
+        assertThat(teamServiceImpl.getMembersVersion(1L, 2L))
+            .isNotEqualTo(teamServiceImpl.getMembersVersion(1L, 2L));
+    }
+
+    @Test
+    public void 준비되지_않은_팀의_멤버_버전은_멤버만_조회() {
+        when(teamRepository.findStatusById(1L)).thenReturn(Optional.of(TeamStatus.PENDING));
+        when(userService.getUser(2L)).thenReturn(User.builder().id(2L).teamId(3L).build());
+
+        assertThatThrownBy(() -> teamServiceImpl.getMembersVersion(1L, 2L))
+            .isInstanceOf(ForbiddenBehaviorException.class);
+        verify(teamRepository, never()).findById(1L);
+    }
+
+    @Test
+    public void 존재하지_않는_팀의_버전_조회() {
+        when(teamRepository.findStatusById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> teamServiceImpl.getMembersVersion(1L, 2L))
+            .isInstanceOf(NotFoundResourceException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.colleful.server.user.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.colleful.server.global.time.YearClock;
+import com.colleful.server.global.web.EntityTag;
+import com.colleful.server.user.domain.Gender;
+import com.colleful.server.user.domain.User;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+public class SummaryTest {
+
+    @Test
+    public void 올해_기준으로_나이_계산() {
+        User user = User.builder()
+            .birthYear(YearClock.currentYear() - 20)
+            .build();
+
+        assertThat(user.getAge()).isEqualTo(21);
+    }
+
+    @Test
+    public void 유저_요약_정보_변환() {
+        User user = User.builder()
+            .id(1L)
+            .nickname("박성필")
+            .birthYear(YearClock.currentYear())
+            .gender(Gender.MALE)
+            .selfIntroduction("안녕하세요.")
+            .build();
+
+        UserDto.Summary summary = new UserDto.Summary(user);
+
+        assertThat(summary.getId()).isEqualTo(1L);
+        assertThat(summary.getNickname()).isEqualTo("박성필");
+        assertThat(summary.getAge()).isEqualTo(1);
+        assertThat(summary.getGender()).isEqualTo("MALE");
+    }
+
+    @Test
+    public void ETag에_올해_연도_포함() {
+        LocalDateTime updatedAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+        assertThat(EntityTag.withYear(1L, updatedAt))
+            .startsWith(EntityTag.of(1L, updatedAt))
+            .endsWith("-" + Integer.toHexString(YearClock.currentYear()));
+    }
+}
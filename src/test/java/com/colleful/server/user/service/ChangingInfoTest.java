@@ -2,8 +2,10 @@ package com.colleful.server.user.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
+import com.colleful.server.global.exception.AlreadyExistResourceException;
 import com.colleful.server.global.exception.ForbiddenBehaviorException;
 import com.colleful.server.user.domain.User;
 import com.colleful.server.user.dto.UserDto;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 public class ChangingInfoTest {
@@ -22,6 +25,8 @@ public class ChangingInfoTest {
     private UserServiceImpl userServiceImpl;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserKeyFilter userKeyFilter;
 
     @Test
     public void 회원_이름_자기소개_변경() {
@@ -64,12 +69,26 @@ public class ChangingInfoTest {
 
         when(userRepository.findById(2L)).thenReturn(Optional.of(User.builder()
             .nickname("박성필").selfIntroduction("안녕").build()));
-        when(userRepository.existsByNickname("박성팔")).thenReturn(true);
+        when(userKeyFilter.isNicknameTaken("박성팔")).thenReturn(true);
 
         assertThatThrownBy(() -> userServiceImpl.changeUserInfo(2L, dto))
             .isInstanceOf(ForbiddenBehaviorException.class);
     }
 
+    @Test
+    public void 필터에_없는_중복_닉네임() {
+        UserDto.Request dto = UserDto.Request.builder()
+            .nickname("박성팔")
+            .build();
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(User.builder()
+            .nickname("박성필").selfIntroduction("안녕").build()));
+        doThrow(new DataIntegrityViolationException("duplicate")).when(userRepository).flush();
+
+        assertThatThrownBy(() -> userServiceImpl.changeUserInfo(2L, dto))
+            .isInstanceOf(AlreadyExistResourceException.class);
+    }
+
     @Test
     public void 회원_자기소개_변경() {
         UserDto.Request dto = UserDto.Request.builder()